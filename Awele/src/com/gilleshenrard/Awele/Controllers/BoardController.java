@@ -6,7 +6,7 @@
 /*  The controller implements the Observer pattern, which allows to refresh the UI                  */
 /*      independently of the UI technology used                                                     */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 11/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Controllers;
 
@@ -16,6 +16,7 @@ import com.gilleshenrard.Awele.Views.iObserver;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Stack;
 
 public class BoardController {
@@ -23,7 +24,11 @@ public class BoardController {
     private Board m_board;
     private Stack<Board> m_stack;
     private ArrayList<iObserver> m_observers;
-    private Point m_lastSelected;
+    private InputChannel[] m_inputs;
+    private byte[] m_undo;
+    private int m_undoDepth;
+    private byte[] m_before;
+    private byte[] m_after;
 
     /**
      * Create a new Board controller
@@ -34,7 +39,11 @@ public class BoardController {
         this.setBoard(b);
         this.m_stack = new Stack<>();
         this.m_observers = new ArrayList<>();
-        this.m_lastSelected = null;
+        this.m_inputs = new InputChannel[]{new InputChannel(), new InputChannel()};
+        this.m_undo = new byte[16 * Board.NB_CELLS];
+        this.m_undoDepth = 0;
+        this.m_before = new byte[Board.NB_CELLS];
+        this.m_after = new byte[Board.NB_CELLS];
     }
 
     /**
@@ -126,6 +135,63 @@ public class BoardController {
             return 0;
     }
 
+    /**
+     * Play a slot and record the previous board values in the undo buffer (no copy of Board is allocated)
+     * @param p Coordinates of the slot to play
+     * @return -1 if starvation, -2 if empty slot selected (nothing recorded), amount of seeds captured otherwise
+     * @throws InvalidParameterException
+     * @throws NullPointerException
+     */
+    public int makeMove(Point p) throws InvalidParameterException, NullPointerException {
+        //grow the undo buffer if full (only happens the first time a depth is reached)
+        int offset = this.m_undoDepth * Board.NB_CELLS;
+        if (offset + Board.NB_CELLS > this.m_undo.length)
+            this.m_undo = Arrays.copyOf(this.m_undo, this.m_undo.length * 2);
+
+        //save the current values, then play the slot and only keep the record if the move is legal
+        this.m_board.saveState(this.m_undo, offset);
+        int ret = this.playSlot(p);
+        if (ret >= 0)
+            this.m_undoDepth++;
+
+        return ret;
+    }
+
+    /**
+     * Play a move previously generated with generateMoves() and record the previous board values in the undo buffer
+     *  (the move is applied from its precomputed result, without simulating the season again)
+     * @param moves List of moves generated on the current board
+     * @param index Index of the move to play in the list
+     * @return Amount of seeds captured
+     */
+    public int makeMove(MoveList moves, int index) {
+        //grow the undo buffer if full (only happens the first time a depth is reached)
+        int offset = this.m_undoDepth * Board.NB_CELLS;
+        if (offset + Board.NB_CELLS > this.m_undo.length)
+            this.m_undo = Arrays.copyOf(this.m_undo, this.m_undo.length * 2);
+
+        //save the current values, then assign the values resulting from the move
+        this.m_board.saveState(this.m_undo, offset);
+        this.m_board.restoreState(moves.getResults(), moves.getResultOffset(index));
+        this.m_undoDepth++;
+
+        return moves.getCaptured(index);
+    }
+
+    /**
+     * Restore the board values as they were before the last move made with makeMove()
+     * @return 1 if a move has been undone, 0 otherwise
+     */
+    public int unmakeMove() {
+        if (this.m_undoDepth > 0) {
+            this.m_undoDepth--;
+            this.m_board.restoreState(this.m_undo, this.m_undoDepth * Board.NB_CELLS);
+            return 1;
+        }
+        else
+            return 0;
+    }
+
     /**
      * Get the amount of seeds contained in the slot located at X,Y
      * @param point Coordinates of the slot
@@ -173,14 +239,35 @@ public class BoardController {
      * @throws NullPointerException
      */
     public boolean isLegal(Point p) throws InvalidParameterException, NullPointerException{
-        if (p == null)
-            throw new NullPointerException("BoardController.checkOutcome() : NULL instance of Point");
-        Board.validateID(p.getY() + 1, "BoardController.checkOutcome()");
-        Board.validateCoordinates(p, "Board.checkOutcome()");
-
         return this.checkOutcome(p) >= 0;
     }
 
+    /**
+     * Simulate a season on each slot of a player at once, and fill a list with all the legal ones
+     *  (along with the amount of seeds they capture and the board they result in)
+     * @param ID ID of the player for which generate the moves
+     * @param moves List to fill (previous content discarded)
+     * @return Amount of legal moves
+     * @throws InvalidParameterException
+     * @throws NullPointerException
+     */
+    public int generateMoves(int ID, MoveList moves) throws InvalidParameterException, NullPointerException{
+        if (moves == null)
+            throw new NullPointerException("BoardController.generateMoves() : NULL instance of MoveList");
+        Board.validateID(ID, "BoardController.generateMoves()");
+
+        //simulate every slot of the player, writing each result straight in the list
+        this.m_board.saveState(this.m_before, 0);
+        moves.clear(ID);
+        for (int x = 0 ; x < 6 ; x++) {
+            int ret = SowingEngine.play(this.m_before, moves.getResults(), moves.getResultOffset(moves.size()), (ID - 1) * 6 + x);
+            if (ret >= 0)
+                moves.add(x, ret);
+        }
+
+        return moves.size();
+    }
+
     /**
      * Test a slot for an outcome code
      * @param p The slot to test
@@ -189,62 +276,11 @@ public class BoardController {
      * @throws NullPointerException
      */
     public int checkOutcome(Point p) throws InvalidParameterException, NullPointerException{
-        if (p == null)
-            throw new NullPointerException("BoardController.checkOutcome() : NULL instance of Point");
-        Board.validateID(p.getY() + 1, "BoardController.checkOutcome()");
-        Board.validateCoordinates(p, "Board.checkOutcome()");
-
-        //recover the amount of seeds it the slot tested
-        int nbseeds = this.getSlotSeeds(p);
-
-        //if slot empty, return the proper code
-        if (nbseeds == 0)
-            return -2;
-
-        //prepare buffer variables
-        Point tmp = this.m_board.getSubsequent(p, nbseeds);
-        Point finalSlot = new Point(tmp);
-        int finalSeeds = this.m_board.getFinalSeeds(p, finalSlot, tmp, nbseeds);
-        int capturable = 0;
-        boolean capturing = true;
-
-        //get the total amount of seeds the opponent will have after scattering
-        int i = 5;
-        int total = 0;
-        do {
-            tmp.setCoordinates(i, 1 - p.getY());
-            total += this.m_board.getFinalSeeds(p, finalSlot, tmp, nbseeds);
-            i--;
-        }while (i >= 0);
-
-        //if the final slot scattered is not on opponent's side or the slot is not capturable
-        if (finalSlot.getY() == p.getY() || (finalSeeds != 2 && finalSeeds != 3)) {
-            return (total == 0 ? -1 : 0);
-        }
-        //if the slot is capturable
-        else {
-            i = finalSlot.getX();
-
-            //scroll through all the capturable slots (until end of row or not capturable)
-            //      and substract their seeds from the total and set them as capturable
-            while (i >= 0 && capturing){
-                tmp.setCoordinates(i, 1 - p.getY());
-                finalSeeds = this.m_board.getFinalSeeds(p, finalSlot, tmp, nbseeds);
-                if ((finalSeeds == 2 || finalSeeds == 3)){
-                    total -= finalSeeds;
-                    capturable += finalSeeds;
-                }
-                else
-                    capturing = false;
-                i--;
-            }
-        }
+        int start = slotIndex(p, "BoardController.checkOutcome()");
 
-        //if seeds left at the opponent's, return the capturable seeds count. Otherwise, return an error
-        if (total == 0)
-            return -1;
-        else
-            return capturable;
+        //only the outcome is computed, the board values resulting from the season are not written
+        this.m_board.saveState(this.m_before, 0);
+        return SowingEngine.outcome(this.m_before, start);
     }
 
     /**
@@ -255,70 +291,35 @@ public class BoardController {
      * @throws NullPointerException
      */
     public int playSlot(Point p) throws InvalidParameterException, NullPointerException {
-        if (p == null)
-            throw new NullPointerException("BoardController.playSlot() : NULL instance of Point");
-        Board.validateID(p.getY() + 1, "BoardController.playSlot()");
-        Board.validateCoordinates(p, "Board.playSlot()");
-
-        //Check if the play is legal, and return ad hoc code if not
-        int ret = this.checkOutcome(p);
-        if (ret < 0)
-            return ret;
-
-
-        //get the number of seeds in the slot to harvest and empty it + update remaining seeds
-        int nbseeds = this.getSlotSeeds(p);
-        int backup = nbseeds;
-        int finalSeeds = 0;
-        Point pPrev = this.m_board.getSubsequent(p, backup);
-        Point finalSlot = new Point(pPrev);
-        boolean capturing = true;
-
-
-        //empty the start slot and update the remaining seeds count
-        this.m_board.emptySlotSeeds(p);
-
-        //
-        //  CAPTURING PHASE
-        //
-
-        //capturing cycle (while only capturable slots encountered and on the opponent's side)
-        while (ret > 0 && capturing && nbseeds >= 0){
-            finalSeeds = this.m_board.getFinalSeeds(p, finalSlot, pPrev, backup);
-
-            //if still capturable, empty the slot and update remaining seeds, otherwise stop capture
-            if(pPrev.getY() == 1 - p.getY() && (finalSeeds == 2 || finalSeeds == 3)){
-                this.storeSeeds(p.getY() + 1, finalSeeds);
-                this.m_board.emptySlotSeeds(pPrev);
-
-                //get next slot
-                nbseeds--;
-                pPrev = this.m_board.getPrevious(pPrev);
-            }
-            else
-                capturing = false;
-        }
+        int start = slotIndex(p, "BoardController.playSlot()");
 
-        //
-        //  SCATTERING PHASE
-        //
-
-        //scattering cycle (while seeds left or scattering made a whole turn)
-        while (nbseeds >= 0 && backup - nbseeds < 11){
-            //if current slot is not the one played, update the total amount of seeds
-            if (!pPrev.equals(p)){
-                finalSeeds = this.m_board.getFinalSeeds(p, finalSlot, pPrev, backup);
-                this.m_board.setSlotSeeds(pPrev, finalSeeds);
-                nbseeds--;
-            }
-
-            pPrev = this.m_board.getPrevious(pPrev);
-        }
+        //play the season on a scratch copy of the board values, and only apply it if legal
+        this.m_board.saveState(this.m_before, 0);
+        int ret = SowingEngine.play(this.m_before, this.m_after, 0, start);
+        if (ret >= 0)
+            this.m_board.restoreState(this.m_after, 0);
 
         //return the total captured
         return ret;
     }
 
+    /**
+     * Get the index of a slot in the packed board values, after checking its coordinates
+     *  (the row being 0 or 1, the ID of its owner is checked as well)
+     * @param p Coordinates of the slot
+     * @param msg Name of the method in which the validation occurs
+     * @return Index of the slot (0-5 for player 1, 6-11 for player 2)
+     * @throws InvalidParameterException
+     * @throws NullPointerException
+     */
+    private static int slotIndex(Point p, String msg) throws InvalidParameterException, NullPointerException {
+        if (p == null)
+            throw new NullPointerException(msg + " : NULL instance of Point");
+        Board.validateCoordinates(p, msg);
+
+        return p.getY() * 6 + p.getX();
+    }
+
     /**
      * Reset the board to an inial value
      */
@@ -349,19 +350,15 @@ public class BoardController {
     }
 
     /**
-     * Get the last slot selected by a player
-     * @return Last Slot selected
+     * Get the channel through which the views send the inputs of a player to the game loop
+     * @param ID ID of the player
+     * @return Input channel of the player
+     * @throws InvalidParameterException
      */
-    public Point getLastSelected() {
-        return this.m_lastSelected;
-    }
+    public InputChannel getInput(int ID) throws InvalidParameterException {
+        Board.validateID(ID, "BoardController.getInput()");
 
-    /**
-     * Set the last slot selected by a player
-     * @param last Last slot selected
-     */
-    public void setLastSelected(Point last) {
-        this.m_lastSelected = last;
+        return this.m_inputs[ID - 1];
     }
 
     /**
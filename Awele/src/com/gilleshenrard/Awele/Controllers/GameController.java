@@ -3,12 +3,11 @@
 /*  Deals with game indirect manipulations (getting the current state, ...), and acts as a buffer   */
 /*      between the Game and the Game view. Must be primarily used in the Main method               */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 
 package com.gilleshenrard.Awele.Controllers;
 
-import com.gilleshenrard.Awele.App;
 import com.gilleshenrard.Awele.FSM.State;
 import com.gilleshenrard.Awele.Models.*;
 import com.gilleshenrard.Awele.Views.Selectable;
@@ -16,34 +15,95 @@ import com.gilleshenrard.Awele.Views.iNotifiable;
 
 import java.security.InvalidParameterException;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class GameController {
+    private final static Logger LOGGER = Logger.getLogger(GameController.class.getName());
+    private Game m_game;
     private BoardController m_boardctrl;
     private iNotifiable m_view;
     private State m_currentState;
-    private DBSQLite m_database;
+    private iGameStorage m_database;
     private int m_currentPlayer;
-    private boolean m_running;
-    private boolean m_menu;
+    private int m_selection;
+    private Duration m_thinkTime;
+    private volatile boolean m_running;
+    private volatile boolean m_menu;
+    private volatile InputChannel m_menuInput;
     private boolean m_gameover;
+    private boolean m_standalone;
+    private PacingPolicy m_pacing;
+    private Duration m_pacingDelay;
 
     /**
-     * Create a new Game Controller
+     * Create a new Game Controller, with a game of its own
      */
     public GameController(){
-        this.m_boardctrl = new BoardController(Game.getInstance().getBoard());
+        this(new Game());
+    }
+
+    /**
+     * Create a new Game Controller on an existing game
+     * @param game Game session handled by the controller
+     * @throws NullPointerException
+     */
+    public GameController(Game game) throws NullPointerException {
+        if (game == null)
+            throw new NullPointerException("GameController() : NULL instance of Game");
+
+        //connect to the database
+        this.initialise(game, new DBSQLite(), true);
+    }
+
+    /**
+     * Create a new Game Controller hosted by a server, along with other games
+     * The storage is shared by all the games (connected and closed by the server),
+     *      and an error in the game loop only ends the current game
+     * @param game Game session handled by the controller
+     * @param database Storage shared by the games (SQLite database or binary log)
+     * @throws NullPointerException
+     */
+    public GameController(Game game, iGameStorage database) throws NullPointerException {
+        if (game == null || database == null)
+            throw new NullPointerException("GameController() : NULL instance of Game or iGameStorage");
+
+        this.initialise(game, database, false);
+    }
+
+    /**
+     * Initialise the fields shared by all the constructors
+     * @param game Game session handled by the controller
+     * @param database Storage in which save the games
+     * @param standalone true if the controller connects and closes the storage itself
+     */
+    private void initialise(Game game, iGameStorage database, boolean standalone) {
+        this.m_game = game;
+        this.m_boardctrl = new BoardController(game.getBoard());
         this.m_boardctrl.setGameController(this);
         this.m_view = null;
         this.m_currentPlayer = 1;
+        this.m_selection = 0;
+        this.m_thinkTime = Duration.ZERO;
         this.m_currentState = State.MENU;
         this.m_menu = true;
         this.m_gameover = false;
+        this.m_pacing = PacingPolicy.FIXED;
+        this.m_pacingDelay = Duration.ofSeconds(1);
+        this.m_database = database;
+        this.m_standalone = standalone;
+    }
 
-        //connect to the database
-        this.m_database = new DBSQLite();
+    /**
+     * Get the level at which the moves are logged (each move is logged as INFO in a standalone game,
+     *      but only as FINE when the game is hosted by a server along with many others)
+     * @return Logging level of the moves
+     */
+    public Level getMoveLogLevel() {
+        return (this.m_standalone ? Level.INFO : Level.FINE);
     }
 
     /**
@@ -51,7 +111,7 @@ public class GameController {
      * @param running flag to tell if the main loop is running
      */
     public void setRunning(boolean running) {
-        Logger.getLogger(App.class.getName()).log(Level.FINE, "Game loop set as " + (running ? "running" : "stopped"));
+        LOGGER.log(Level.FINE, "Game loop set as " + (running ? "running" : "stopped"));
         this.m_running = running;
     }
 
@@ -68,7 +128,7 @@ public class GameController {
      * @param nextState Next state to join
      */
     public void setNextState(State nextState){
-        Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + this.getCurrentPlayer() + " : next state -> " + nextState);
+        LOGGER.log(Level.FINE, "Player " + this.getCurrentPlayer() + " : next state -> " + nextState);
         this.m_currentState = nextState;
     }
 
@@ -112,6 +172,14 @@ public class GameController {
         this.m_gameover = flag;
     }
 
+    /**
+     * Get the game session handled by the controller
+     * @return Game
+     */
+    public Game getGame() {
+        return this.m_game;
+    }
+
     /**
      * Set the ID of the current player
      * @param ID Next state to join
@@ -130,6 +198,41 @@ public class GameController {
         return this.m_currentPlayer;
     }
 
+    /**
+     * Set the slot selected by the current player, to play in the Playing state
+     * @param slot Slot selected (1-6)
+     */
+    public void setSelection(int slot) {
+        this.setSelection(slot, Duration.ZERO);
+    }
+
+    /**
+     * Set the slot selected by the current player, along with the time taken to select it
+     * @param slot Slot selected (1-6)
+     * @param thinkTime Time taken by the player to select the slot
+     */
+    public void setSelection(int slot, Duration thinkTime) {
+        this.m_selection = slot;
+        this.m_thinkTime = thinkTime;
+    }
+
+    /**
+     * Record the move played by the current player with the slot selected
+     * @param captured Amount of seeds captured
+     * @throws InvalidParameterException
+     */
+    public void recordMove(int captured) throws InvalidParameterException {
+        this.m_game.getMoves().add((this.getCurrentPlayer() - 1) * 6 + this.m_selection - 1, captured, this.m_thinkTime);
+    }
+
+    /**
+     * Get the slot selected by the current player
+     * @return Slot selected (1-6)
+     */
+    public int getSelection() {
+        return this.m_selection;
+    }
+
     /**
      * Get the ID of the opponent of the current player
      * @return ID of the opponent
@@ -155,7 +258,7 @@ public class GameController {
      * @throws NullPointerException
      */
     public void setPlayer(Player player) throws InvalidParameterException, NullPointerException{
-        Game.getInstance().setPlayer(player);
+        this.m_game.setPlayer(player);
     }
 
     /**
@@ -172,23 +275,27 @@ public class GameController {
     public void gameLoop(){
         try {
             //flag the main loop as running
-            this.m_database.connect();
+            if (this.m_standalone)
+                this.m_database.connect();
             this.setRunning(true);
 
             //main game loop, while no victory
             while (this.isRunning()) {
-                Logger.getLogger(App.class.getName()).log(Level.FINE, "Player " + this.getCurrentPlayer() + " : entering {0} state", this.getNextState());
+                LOGGER.log(Level.FINE, "Player " + this.getCurrentPlayer() + " : entering {0} state", this.getNextState());
                 this.handleState();
             }
         }
         catch (Exception e){
-            Logger.getLogger("App").log(Level.SEVERE, e.getMessage());
+            LOGGER.log(Level.SEVERE, e.getMessage());
             this.displayError(e.getMessage());
-            System.exit(-1);
+            if (this.m_standalone)
+                System.exit(-1);
+            this.setRunning(false);
         }
 
-        this.m_database.close();
-        Logger.getLogger(App.class.getName()).log(Level.INFO, "Game loop exited");
+        if (this.m_standalone)
+            this.m_database.close();
+        LOGGER.log(Level.INFO, "Game loop exited");
     }
 
     /**
@@ -232,7 +339,7 @@ public class GameController {
      * @throws NullPointerException
      */
     public String getName(int ID) throws InvalidParameterException, NullPointerException{
-        return Game.getInstance().getName(ID);
+        return this.m_game.getName(ID);
     }
 
     /**
@@ -245,7 +352,7 @@ public class GameController {
     public void setName(int ID, String name) throws InvalidParameterException, NullPointerException {
         Game.validateID(ID, "GameController.setName()");
 
-        Game.getInstance().setName(ID, name);
+        this.m_game.setName(ID, name);
     }
 
     /**
@@ -260,7 +367,7 @@ public class GameController {
         if (behaviour == null)
             throw new NullPointerException("GameController.setBehaviour() : NULL instance of Selectable");
 
-        Game.getInstance().setBehaviour(ID, behaviour);
+        this.m_game.setBehaviour(ID, behaviour);
     }
 
     /**
@@ -271,7 +378,7 @@ public class GameController {
      * @throws NullPointerException
      */
     public boolean isPlayerAI(int ID) throws InvalidParameterException, NullPointerException {
-        return Game.getInstance().isPlayerAI(ID);
+        return this.m_game.isPlayerAI(ID);
     }
 
     /**
@@ -283,7 +390,50 @@ public class GameController {
     public int selectSlot(int ID) throws InvalidParameterException{
         Game.validateID(ID, "GameController.selectSlot()");
 
-        return Game.getInstance().selectSlot(ID);
+        return this.m_game.selectSlot(ID);
+    }
+
+    /**
+     * Set how long AI players wait before playing the slot they selected
+     * @param policy Pacing policy to apply
+     * @param delay Delay used by the policy
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public void setPacing(PacingPolicy policy, Duration delay) throws NullPointerException, InvalidParameterException {
+        if (policy == null || delay == null)
+            throw new NullPointerException("GameController.setPacing() : NULL instance of policy or delay");
+        if (delay.isNegative())
+            throw new InvalidParameterException("GameController.setPacing() : negative delay (" + delay + ")");
+
+        this.m_pacing = policy;
+        this.m_pacingDelay = delay;
+    }
+
+    /**
+     * Get the pacing policy applied to AI players
+     * @return Pacing policy
+     */
+    public PacingPolicy getPacing() {
+        return this.m_pacing;
+    }
+
+    /**
+     * Make the game thread wait, as required by the pacing policy, after an AI selection
+     * @param thinkTime Time taken by the AI to select its slot
+     * @return Time waited
+     */
+    public Duration pace(Duration thinkTime) {
+        Duration pause = this.m_pacing.getPause(this.m_pacingDelay, thinkTime);
+        if (!pause.isZero()) {
+            try {
+                Thread.sleep(pause.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        return pause;
     }
 
     /**
@@ -301,14 +451,14 @@ public class GameController {
      * Save the current game in the database
      */
     public void saveGame(int ID) {
-        this.m_database.saveGame(ID);
+        this.m_database.saveGame(this.m_game, ID);
     }
 
     /**
      * Reset the Game and its related board to an inital value
      */
     public void resetGame(){
-        Game.getInstance().reset();
+        this.m_game.reset();
         this.setCurrentPlayer(1);
         this.getBoardController().resetBoard();
     }
@@ -348,7 +498,7 @@ public class GameController {
      * Set the time member to Now
      */
     public void setTimeNow() {
-        Game.getInstance().setTimeNow();
+        this.m_game.setTimeNow();
     }
 
     /**
@@ -356,53 +506,59 @@ public class GameController {
      * @return Date and time of the beginning of the game
      */
     public LocalDateTime getTime() {
-        return Game.getInstance().getTime();
+        return this.m_game.getTime();
     }
 
     /**
      * (re-)Start the game timer
      */
     public void startClock() {
-        Game.getInstance().startClock();
+        this.m_game.startClock();
     }
 
     /**
      * Add the elapsed time between now and the start timer to the final clock
      */
     public void stopClock() {
-        Game.getInstance().stopClock();
+        this.m_game.stopClock();
     }
 
     /**
      * Reset the final game clock to 00:00:00
      */
     public void resetClock() {
-        Game.getInstance().resetClock();
+        this.m_game.resetClock();
     }
 
 
     /**
-     * Fill the local Result Set with all the games saved in the DB
+     * Select a page of the games saved in the DB, the most recent first
+     * @param beforeID ID of the last game of the previous page (Long.MAX_VALUE for the first page)
+     * @param limit Max amount of games in the page
+     * @return Games of the page (empty if no more games)
+     * @throws InvalidParameterException
      */
-    public void selectGames() {
-        this.m_database.selectGames();
+    public List<GameRecord> selectGames(long beforeID, int limit) throws InvalidParameterException {
+        return this.m_database.selectGames(beforeID, limit);
     }
 
     /**
-     * Select the next row in the database
-     * @return true if row has been selected, false if no more rows
+     * Select the statistics of the best players (the most wins first)
+     * @param limit Max amount of players
+     * @return Statistics of the players (empty if none)
+     * @throws InvalidParameterException
      */
-    public boolean selectNext() {
-        return this.m_database.selectNext();
+    public List<PlayerStats> selectLeaderboard(int limit) throws InvalidParameterException {
+        return this.m_database.selectLeaderboard(limit);
     }
 
     /**
-     * Get the value of the current database row at the column specified
-     * @param column Column from which get the value
-     * @return Value of the field located in the current database row and the column specified
+     * Select the moves of a game saved in the DB
+     * @param ID ID of the game
+     * @return Moves of the game, or null if not recorded
      */
-    public String getField(DBFields column) {
-        return this.m_database.getField(column);
+    public MoveLog selectMoves(long ID) {
+        return this.m_database.selectMoves(ID);
     }
 
     /**
@@ -437,9 +593,36 @@ public class GameController {
         if (this.m_view == null)
             throw new NullPointerException("GameController.displayMenu() : GameView not instantiated");
 
+        //remember the channel on which the game loop waits in the menu, as the current player may change before
+        //  the game is resumed (e.g. when the game is reset from a menu opened during the player 2's season)
+        this.m_menuInput = this.m_boardctrl.getInput(this.m_currentPlayer);
         this.m_view.displayMenu();
     }
 
+    /**
+     * Make the game loop thread wait in the menu until the game is resumed
+     */
+    public void awaitResume() {
+        this.getMenuInput().await(InputEvent.Type.RESUME);
+    }
+
+    /**
+     * Resume the game loop thread waiting in the menu
+     * @return true if the game loop has been notified, false if too many events are pending
+     */
+    public boolean resumeGameLoop() {
+        return this.getMenuInput().offer(new InputEvent(InputEvent.Type.RESUME));
+    }
+
+    /**
+     * Get the channel on which the game loop waits in the menu (the one of the current player if no menu displayed yet)
+     * @return Input channel
+     */
+    private InputChannel getMenuInput() {
+        InputChannel input = this.m_menuInput;
+        return (input != null ? input : this.m_boardctrl.getInput(this.m_currentPlayer));
+    }
+
     /**
      * Display the whole board and score of the two players
      * @throws InvalidParameterException
@@ -0,0 +1,72 @@
+/****************************************************************************************************/
+/*  Class GameReplayer                                                                              */
+/*  Rebuilds any position of a recorded game by playing its moves again from the initial board     */
+/*  Moves are applied straight on packed board values with the sowing engine (no state machine,     */
+/*      no board hashing until the final position), and checked against the captures recorded      */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.MoveLog;
+
+import java.security.InvalidParameterException;
+
+public final class GameReplayer {
+    private final static byte[] INITIAL_STATE = new byte[Board.NB_CELLS];
+
+    static {
+        new Board().saveState(INITIAL_STATE, 0);
+    }
+
+    /**
+     * Static class, not meant to be instantiated
+     */
+    private GameReplayer() {}
+
+    /**
+     * Rebuild the position reached after a given amount of moves
+     * @param moves Moves of the game
+     * @param count Amount of moves to play (0 for the initial position)
+     * @return Board in the position reached
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public static Board replay(MoveLog moves, int count) throws NullPointerException, InvalidParameterException {
+        Board board = new Board();
+        replay(moves, count, board);
+
+        return board;
+    }
+
+    /**
+     * Rebuild the position reached after a given amount of moves in an existing board
+     * @param moves Moves of the game
+     * @param count Amount of moves to play (0 for the initial position)
+     * @param board Board in which set the position reached
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public static void replay(MoveLog moves, int count, Board board) throws NullPointerException, InvalidParameterException {
+        if (moves == null || board == null)
+            throw new NullPointerException("GameReplayer.replay() : NULL instance of MoveLog or Board");
+        if (count < 0 || count > moves.size())
+            throw new InvalidParameterException("GameReplayer.replay() : invalid amount of moves (" + count + ")");
+
+        //play each move from the previous buffer to the other one
+        byte[] src = INITIAL_STATE.clone();
+        byte[] dst = new byte[Board.NB_CELLS];
+        for (int i = 0 ; i < count ; i++) {
+            int captured = SowingEngine.play(src, dst, 0, moves.getSlot(i));
+            if (captured != moves.getCaptured(i))
+                throw new InvalidParameterException("GameReplayer.replay() : move " + i + " does not match the game (outcome " + captured + ")");
+
+            byte[] tmp = src;
+            src = dst;
+            dst = tmp;
+        }
+
+        board.restoreState(src, 0);
+    }
+}
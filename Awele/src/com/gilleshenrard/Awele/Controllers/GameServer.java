@@ -0,0 +1,261 @@
+/****************************************************************************************************/
+/*  Class GameServer                                                                                */
+/*  Hosts many games in the same process, each one running its own game loop on a virtual thread    */
+/*      (or on a pooled platform thread when the JVM does not provide virtual threads)              */
+/*  Games do not display anything : remote players submit their slots through RemoteSelect, and    */
+/*      the messages of each game are forwarded to a listener                                       */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import com.gilleshenrard.Awele.Models.DBSQLite;
+import com.gilleshenrard.Awele.Models.Game;
+import com.gilleshenrard.Awele.Models.Player;
+import com.gilleshenrard.Awele.Models.iGameStorage;
+import com.gilleshenrard.Awele.Views.Remote.RemoteGameView;
+import com.gilleshenrard.Awele.Views.Remote.RemoteSelect;
+import com.gilleshenrard.Awele.Views.Selectable;
+
+import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class GameServer {
+    private iGameStorage m_database;
+    private ExecutorService m_executor;
+    private boolean m_virtual;
+    private ConcurrentHashMap<Long, Session> m_sessions;
+    private AtomicLong m_nextID;
+
+    /**
+     * Create a new game server, and connect to its SQLite database
+     * @param dbPath Path to the DB file in which save the games
+     */
+    public GameServer(String dbPath) {
+        this(new DBSQLite(), dbPath);
+    }
+
+    /**
+     * Create a new game server, and connect to its storage
+     * @param storage Storage in which save the games (SQLite database or binary log)
+     * @param path Path of the storage
+     * @throws NullPointerException
+     */
+    public GameServer(iGameStorage storage, String path) throws NullPointerException {
+        if (storage == null)
+            throw new NullPointerException("GameServer() : NULL instance of iGameStorage");
+
+        this.m_database = storage;
+        this.m_database.setPath(path);
+        this.m_database.connect();
+        this.m_sessions = new ConcurrentHashMap<>();
+        this.m_nextID = new AtomicLong(1);
+
+        //the game loops mostly wait for remote players, one virtual thread per game is the cheapest
+        try {
+            this.m_executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            this.m_virtual = true;
+        }
+        catch (ReflectiveOperationException e) {
+            Logger.getLogger(this.getClass().getName()).log(Level.WARNING, "Virtual threads not available, games hosted on platform threads");
+            this.m_executor = Executors.newCachedThreadPool();
+            this.m_virtual = false;
+        }
+    }
+
+    /**
+     * Tell if the games are hosted on virtual threads
+     * @return true if virtual threads, false if platform threads
+     */
+    public boolean isVirtual() {
+        return this.m_virtual;
+    }
+
+    /**
+     * Get the amount of games currently running
+     * @return Amount of games
+     */
+    public int getActiveGames() {
+        return this.m_sessions.size();
+    }
+
+    /**
+     * Create a new game and start its game loop, the player 1 starting
+     * @param name1 Name of the player 1
+     * @param player1 Factory creating the behaviour of the player 1 on the board controller of the game (e.g. RemoteSelect::new)
+     * @param name2 Name of the player 2
+     * @param player2 Factory creating the behaviour of the player 2 on the board controller of the game
+     * @param listener Listener receiving the messages of the game
+     * @return Session of the game
+     * @throws NullPointerException
+     */
+    public Session startGame(String name1, Function<BoardController, Selectable> player1, String name2, Function<BoardController, Selectable> player2, Consumer<String> listener) throws NullPointerException {
+        if (player1 == null || player2 == null)
+            throw new NullPointerException("GameServer.startGame() : NULL instance of behaviour factory");
+
+        //create the game, played at full speed and without any menu
+        GameController controller = new GameController(new Game(), this.m_database);
+        new RemoteGameView(controller, listener);
+        controller.setPacing(PacingPolicy.NONE, Duration.ZERO);
+        controller.setPlayer(new Player(1, name1, player1.apply(controller.getBoardController())));
+        controller.setPlayer(new Player(2, name2, player2.apply(controller.getBoardController())));
+        controller.startClock();
+
+        //run the game loop, then forget the game (the session is registered before its loop starts)
+        long ID = this.m_nextID.getAndIncrement();
+        FutureTask<Void> loop = new FutureTask<>(() -> {
+            try {
+                controller.gameLoop();
+            }
+            finally {
+                this.m_sessions.remove(ID);
+            }
+        }, null);
+        Session session = new Session(ID, controller, loop);
+        this.m_sessions.put(ID, session);
+        this.m_executor.execute(loop);
+
+        return session;
+    }
+
+    /**
+     * Get a game currently running
+     * @param ID ID of the game
+     * @return Session of the game, or null if not running
+     */
+    public Session getSession(long ID) {
+        return this.m_sessions.get(ID);
+    }
+
+    /**
+     * Stop all the games (the players waiting for a remote slot forfeit), then close the storage
+     * @param timeout Time to wait for the game loops to end
+     */
+    public void shutdown(Duration timeout) {
+        this.m_executor.shutdownNow();
+        try {
+            if (!this.m_executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS))
+                Logger.getLogger(this.getClass().getName()).log(Level.WARNING, this.m_sessions.size() + " games still running after shutdown");
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.m_database.close();
+    }
+
+    /**
+     * Game hosted by the server
+     */
+    public static final class Session {
+        private final long m_id;
+        private final GameController m_controller;
+        private final Future<Void> m_loop;
+
+        /**
+         * Create a new session
+         * @param ID ID of the game
+         * @param controller Game controller of the game
+         * @param loop Task running the game loop
+         */
+        private Session(long ID, GameController controller, Future<Void> loop) {
+            this.m_id = ID;
+            this.m_controller = controller;
+            this.m_loop = loop;
+        }
+
+        /**
+         * Get the ID of the game
+         * @return ID
+         */
+        public long getID() {
+            return this.m_id;
+        }
+
+        /**
+         * Get the game controller of the game
+         * @return Game controller
+         */
+        public GameController getController() {
+            return this.m_controller;
+        }
+
+        /**
+         * Submit the slot selected by a remote player
+         * @param ID ID of the player
+         * @param slot Slot selected (1-6)
+         * @throws InvalidParameterException
+         */
+        public void submit(int ID, int slot) throws InvalidParameterException {
+            this.getRemote(ID, "GameServer.Session.submit()").submit(slot);
+        }
+
+        /**
+         * Make a remote player forfeit the game
+         * @param ID ID of the player
+         * @throws InvalidParameterException
+         */
+        public void forfeit(int ID) throws InvalidParameterException {
+            this.getRemote(ID, "GameServer.Session.forfeit()").forfeit();
+        }
+
+        /**
+         * Get the behaviour of a remote player
+         * @param ID ID of the player
+         * @param msg Name of the method in which the check occurs
+         * @return Remote behaviour of the player
+         * @throws InvalidParameterException
+         */
+        private RemoteSelect getRemote(int ID, String msg) throws InvalidParameterException {
+            Game.validateID(ID, msg);
+            Selectable behaviour = this.m_controller.getGame().getPlayer(ID).getBehaviour();
+            if (!(behaviour instanceof RemoteSelect))
+                throw new InvalidParameterException(msg + " : player " + ID + " is not a remote player");
+
+            return (RemoteSelect) behaviour;
+        }
+
+        /**
+         * Tell if the game loop has ended
+         * @return true if ended, false otherwise
+         */
+        public boolean isOver() {
+            return this.m_loop.isDone();
+        }
+
+        /**
+         * Wait for the game loop to end
+         * @param timeout Max time to wait
+         * @return true if ended, false if still running after the timeout
+         */
+        public boolean await(Duration timeout) {
+            try {
+                this.m_loop.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+                return true;
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            catch (ExecutionException e) {
+                return true;
+            }
+            catch (TimeoutException e) {
+                return false;
+            }
+        }
+    }
+}
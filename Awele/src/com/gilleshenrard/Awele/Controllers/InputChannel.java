@@ -0,0 +1,177 @@
+/****************************************************************************************************/
+/*  Class InputChannel                                                                              */
+/*  Lock-free single-producer/single-consumer queue of input events, from a view (the producer)     */
+/*      to the game loop (the consumer)                                                             */
+/*  Events are kept in a ring buffer until consumed, so none of them is lost if it is sent before   */
+/*      the game loop starts waiting, and the consumer parks with a timeout instead of a monitor    */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class InputChannel {
+    private final static Logger LOGGER = Logger.getLogger(InputChannel.class.getName());
+    private final static int CAPACITY = 16;                         //must be a power of 2
+    private final static long WAIT_TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+    private final AtomicReferenceArray<InputEvent> m_events;
+    private final AtomicLong m_head;                                //next event to consume (written by the consumer only)
+    private final AtomicLong m_tail;                                //next event to produce (written by the producer only)
+    private volatile Thread m_consumer;
+    private volatile long m_lastLatency;
+
+    /**
+     * Create a new empty input channel
+     */
+    public InputChannel() {
+        this.m_events = new AtomicReferenceArray<>(CAPACITY);
+        this.m_head = new AtomicLong(0);
+        this.m_tail = new AtomicLong(0);
+        this.m_consumer = null;
+        this.m_lastLatency = 0;
+    }
+
+    /**
+     * Send an event to the consumer (never blocks)
+     * @param event Event to send
+     * @return true if sent, false if the channel is full
+     * @throws NullPointerException
+     */
+    public boolean offer(InputEvent event) throws NullPointerException {
+        if (event == null)
+            throw new NullPointerException("InputChannel.offer() : NULL instance of InputEvent");
+
+        long tail = this.m_tail.get();
+        if (tail - this.m_head.get() == CAPACITY)
+            return false;
+
+        //publish the event, then wake the consumer up if it is parked
+        //  (the consumer declares itself before checking the tail again, so it never misses the event)
+        this.m_events.lazySet((int)tail & (CAPACITY - 1), event);
+        this.m_tail.set(tail + 1);
+        Thread consumer = this.m_consumer;
+        if (consumer != null)
+            LockSupport.unpark(consumer);
+
+        return true;
+    }
+
+    /**
+     * Consume the next event, if any
+     * @return Next event, or null if the channel is empty
+     */
+    public InputEvent poll() {
+        long head = this.m_head.get();
+        if (head == this.m_tail.get())
+            return null;
+
+        int index = (int)head & (CAPACITY - 1);
+        InputEvent event = this.m_events.get(index);
+        this.m_events.lazySet(index, null);
+        this.m_head.lazySet(head + 1);
+        this.m_lastLatency = System.nanoTime() - event.getTimestamp();
+
+        return event;
+    }
+
+    /**
+     * Consume the next event, waiting for one to be sent if necessary
+     * @param timeout Max time to wait
+     * @param unit Unit of the timeout
+     * @return Next event, or null if none has been sent before the timeout (or if the thread is interrupted)
+     */
+    public InputEvent poll(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        InputEvent event = this.poll();
+
+        while (event == null) {
+            long left = deadline - System.nanoTime();
+            if (left <= 0 || Thread.currentThread().isInterrupted())
+                return null;
+
+            //declare the consumer before checking again, then park until an event is sent
+            this.m_consumer = Thread.currentThread();
+            event = this.poll();
+            if (event == null)
+                LockSupport.parkNanos(this, left);
+            this.m_consumer = null;
+
+            if (event == null)
+                event = this.poll();
+        }
+
+        return event;
+    }
+
+    /**
+     * Wait for an event of one of the types specified, discarding any other event
+     * @param types Types of the events expected
+     * @return Event received, or null if the thread is interrupted
+     */
+    public InputEvent await(InputEvent.Type... types) {
+        return this.receive(false, 0L, types);
+    }
+
+    /**
+     * Wait for an event of one of the types specified, discarding any other event
+     *      and the slots clicked before a given time (e.g. while the opponent was playing)
+     * @param since Time from which the SLOT events are valid (System.nanoTime())
+     * @param types Types of the events expected
+     * @return Event received, or null if the thread is interrupted
+     */
+    public InputEvent await(long since, InputEvent.Type... types) {
+        return this.receive(true, since, types);
+    }
+
+    /**
+     * Consume events until one of the types specified is received
+     * @param fresh true if the SLOT events sent before since are to be discarded
+     * @param since Time from which the SLOT events are valid (System.nanoTime())
+     * @param types Types of the events expected
+     * @return Event received, or null if the thread is interrupted
+     */
+    private InputEvent receive(boolean fresh, long since, InputEvent.Type[] types) {
+        while (!Thread.currentThread().isInterrupted()) {
+            InputEvent event = this.poll(WAIT_TIMEOUT, TimeUnit.NANOSECONDS);
+            if (event == null)
+                continue;
+
+            //nanoTime values are compared by their difference, as they may overflow
+            if (fresh && event.getType() == InputEvent.Type.SLOT && event.getTimestamp() - since < 0) {
+                LOGGER.log(Level.FINE, "Stale event " + event + " discarded");
+                continue;
+            }
+
+            for (InputEvent.Type t : types) {
+                if (event.getType() == t)
+                    return event;
+            }
+            LOGGER.log(Level.FINE, "Event " + event + " discarded");
+        }
+
+        return null;
+    }
+
+    /**
+     * Get the time elapsed between the sending and the consumption of the last event consumed
+     * @return Latency of the last event
+     */
+    public Duration getLastLatency() {
+        return Duration.ofNanos(this.m_lastLatency);
+    }
+
+    /**
+     * Get the amount of events waiting to be consumed
+     * @return Amount of events
+     */
+    public int size() {
+        return (int)(this.m_tail.get() - this.m_head.get());
+    }
+}
@@ -0,0 +1,84 @@
+/****************************************************************************************************/
+/*  Class InputEvent                                                                                */
+/*  Event sent by a view to the game loop through an input channel : slot clicked, menu requested,  */
+/*      or game resumed (after the menu or a pause)                                                 */
+/*  Each event is timestamped at its creation, so the latency of its handling can be measured       */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import java.security.InvalidParameterException;
+
+public final class InputEvent {
+    public enum Type {
+        SLOT,
+        MENU,
+        RESUME
+    }
+
+    private final Type m_type;
+    private final int m_slot;
+    private final long m_timestamp;
+
+    /**
+     * Create a new event carrying no slot (menu or resume)
+     * @param type Type of the event
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public InputEvent(Type type) throws NullPointerException, InvalidParameterException {
+        this(type, 0);
+    }
+
+    /**
+     * Create a new event
+     * @param type Type of the event
+     * @param slot Slot clicked (1-6), only for SLOT events
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public InputEvent(Type type, int slot) throws NullPointerException, InvalidParameterException {
+        if (type == null)
+            throw new NullPointerException("InputEvent() : NULL instance of Type");
+        if (type == Type.SLOT && (slot < 1 || slot > 6))
+            throw new InvalidParameterException("InputEvent() : invalid slot (" + slot + ")");
+
+        this.m_type = type;
+        this.m_slot = slot;
+        this.m_timestamp = System.nanoTime();
+    }
+
+    /**
+     * Get the type of the event
+     * @return Type
+     */
+    public Type getType() {
+        return this.m_type;
+    }
+
+    /**
+     * Get the slot clicked
+     * @return Slot clicked (1-6), or 0 if not a SLOT event
+     */
+    public int getSlot() {
+        return this.m_slot;
+    }
+
+    /**
+     * Get the time at which the event has been created
+     * @return Timestamp (System.nanoTime())
+     */
+    public long getTimestamp() {
+        return this.m_timestamp;
+    }
+
+    /**
+     * Get the event as text
+     * @return Event
+     */
+    @Override
+    public String toString() {
+        return (this.m_type == Type.SLOT ? "SLOT " + this.m_slot : this.m_type.toString());
+    }
+}
@@ -0,0 +1,102 @@
+/****************************************************************************************************/
+/*  Class MoveList                                                                                  */
+/*  Holds all the legal slots a player can harvest, along with the amount of seeds each captures    */
+/*      and the packed board values each one results in                                             */
+/*  Filled by BoardController.generateMoves(), and reused from one season to another to avoid       */
+/*      any allocation                                                                              */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import com.gilleshenrard.Awele.Models.Board;
+
+public class MoveList {
+    private int m_id;
+    private int m_size;
+    private int[] m_slots;
+    private int[] m_captured;
+    private byte[] m_results;
+
+    /**
+     * Create a new empty list of moves
+     */
+    public MoveList() {
+        this.m_id = 1;
+        this.m_size = 0;
+        this.m_slots = new int[6];
+        this.m_captured = new int[6];
+        this.m_results = new byte[6 * Board.NB_CELLS];
+    }
+
+    /**
+     * Empty the list and set the player to which the moves belong
+     * @param ID ID of the player
+     */
+    void clear(int ID) {
+        this.m_id = ID;
+        this.m_size = 0;
+    }
+
+    /**
+     * Get the packed board values buffer in which the next move result is to be written
+     * @return Buffer of the results
+     */
+    byte[] getResults() {
+        return this.m_results;
+    }
+
+    /**
+     * Get the offset in the results buffer of a move
+     * @param index Index of the move in the list
+     * @return Offset of the packed board values
+     */
+    int getResultOffset(int index) {
+        return index * Board.NB_CELLS;
+    }
+
+    /**
+     * Keep the move written at the end of the list
+     * @param slot X coordinate of the slot harvested
+     * @param captured Amount of seeds captured
+     */
+    void add(int slot, int captured) {
+        this.m_slots[this.m_size] = slot;
+        this.m_captured[this.m_size] = captured;
+        this.m_size++;
+    }
+
+    /**
+     * Get the ID of the player to which the moves belong
+     * @return ID of the player
+     */
+    public int getID() {
+        return this.m_id;
+    }
+
+    /**
+     * Get the amount of legal moves in the list
+     * @return Amount of legal moves
+     */
+    public int size() {
+        return this.m_size;
+    }
+
+    /**
+     * Get the X coordinate (0-5) of the slot harvested by a move
+     * @param index Index of the move in the list
+     * @return X coordinate of the slot
+     */
+    public int getSlot(int index) {
+        return this.m_slots[index];
+    }
+
+    /**
+     * Get the amount of seeds captured by a move
+     * @param index Index of the move in the list
+     * @return Amount of seeds captured
+     */
+    public int getCaptured(int index) {
+        return this.m_captured[index];
+    }
+}
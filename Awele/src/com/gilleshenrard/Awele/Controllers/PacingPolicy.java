@@ -0,0 +1,36 @@
+/****************************************************************************************************/
+/*  Enumeration PacingPolicy                                                                        */
+/*  Tells how long an AI player waits before playing the slot it selected, so a human can follow    */
+/*      the game on screen (interactive UI), or not at all (batches, servers)                       */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import java.time.Duration;
+
+public enum PacingPolicy {
+    NONE,       //play as soon as the slot is selected
+    FIXED,      //always wait for the delay, whatever the time taken to select
+    MINIMUM;    //wait until the delay has elapsed since the beginning of the selection
+
+    /**
+     * Compute how long to wait after a selection
+     * @param delay Delay configured
+     * @param thinkTime Time taken by the AI to select its slot
+     * @return Time to wait (never negative)
+     */
+    public Duration getPause(Duration delay, Duration thinkTime) {
+        switch (this) {
+            case FIXED:
+                return delay;
+
+            case MINIMUM:
+                Duration left = delay.minus(thinkTime);
+                return (left.isNegative() ? Duration.ZERO : left);
+
+            default:
+                return Duration.ZERO;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/****************************************************************************************************/
+/*  Class SelfPlayController                                                                        */
+/*  Plays batches of games between two selection behaviours, without any UI, pause or log          */
+/*  Games are played in parallel, each thread having its own board and its own behaviours (created  */
+/*      by the factories provided), and the results are gathered in win/draw/loss statistics       */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
+import com.gilleshenrard.Awele.Views.AI.PVSSelect;
+import com.gilleshenrard.Awele.Views.AI.RandomSelect;
+import com.gilleshenrard.Awele.Views.Selectable;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+public class SelfPlayController {
+    private Function<BoardController, Selectable> m_player1;
+    private Function<BoardController, Selectable> m_player2;
+    private int m_threads;
+    private int m_maxPlies;
+
+    /**
+     * Create a new self-play controller
+     * @param player1 Factory creating the behaviour of the player 1 on a board controller
+     * @param player2 Factory creating the behaviour of the player 2 on a board controller
+     * @throws NullPointerException
+     */
+    public SelfPlayController(Function<BoardController, Selectable> player1, Function<BoardController, Selectable> player2) throws NullPointerException {
+        if (player1 == null || player2 == null)
+            throw new NullPointerException("SelfPlayController() : NULL instance of behaviour factory");
+
+        this.m_player1 = player1;
+        this.m_player2 = player2;
+        this.m_threads = Runtime.getRuntime().availableProcessors();
+        this.m_maxPlies = 400;
+    }
+
+    /**
+     * Set the amount of threads playing games in parallel
+     * @param threads Amount of threads
+     * @throws InvalidParameterException
+     */
+    public void setThreads(int threads) throws InvalidParameterException {
+        if (threads <= 0)
+            throw new InvalidParameterException("SelfPlayController.setThreads() : negative or null amount of threads (" + threads + ")");
+
+        this.m_threads = threads;
+    }
+
+    /**
+     * Set the amount of plies after which a game is declared a draw (seeds looping forever)
+     * @param max Max amount of plies
+     * @throws InvalidParameterException
+     */
+    public void setMaxPlies(int max) throws InvalidParameterException {
+        if (max <= 0)
+            throw new InvalidParameterException("SelfPlayController.setMaxPlies() : negative or null amount of plies (" + max + ")");
+
+        this.m_maxPlies = max;
+    }
+
+    /**
+     * Play a batch of games, the player 1 always starting
+     * @param games Amount of games to play
+     * @return Statistics of the batch
+     * @throws InvalidParameterException
+     */
+    public Statistics play(long games) throws InvalidParameterException {
+        if (games <= 0)
+            throw new InvalidParameterException("SelfPlayController.play() : negative or null amount of games (" + games + ")");
+
+        AtomicLong remaining = new AtomicLong(games);
+        Statistics stats = new Statistics();
+        ExecutorService executor = Executors.newFixedThreadPool(this.m_threads);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0 ; i < this.m_threads ; i++)
+            tasks.add(() -> this.playGames(remaining, stats));
+
+        //play all the games, then stop the threads
+        long start = System.nanoTime();
+        try {
+            for (Future<Void> f : executor.invokeAll(tasks))
+                f.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("SelfPlayController.play() : " + e.getCause().getMessage());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        stats.m_nanos = System.nanoTime() - start;
+
+        return stats;
+    }
+
+    /**
+     * Play games on a board of its own until no games are left to play
+     * @param remaining Amount of games left to play (shared by all the threads)
+     * @param stats Statistics in which count the results
+     * @return null
+     */
+    private Void playGames(AtomicLong remaining, Statistics stats) {
+        BoardController controller = new BoardController(new Board());
+        Selectable[] players = {this.m_player1.apply(controller), this.m_player2.apply(controller)};
+        players[0].setID(1);
+        players[1].setID(2);
+        Point p = new Point(0, 0);
+
+        while (remaining.getAndDecrement() > 0) {
+            controller.resetBoard();
+            int winner = this.playGame(controller, players, p);
+            if (winner == 0)
+                stats.m_draws.increment();
+            else
+                stats.m_wins[winner - 1].increment();
+        }
+
+        return null;
+    }
+
+    /**
+     * Play a game until a player stores more than 24 seeds, can not play anymore, or the max amount of plies is reached
+     * @param controller Controller of the board on which play
+     * @param players Behaviours of the players 1 and 2
+     * @param p Point used to play the slots selected
+     * @return ID of the winner, or 0 if draw
+     */
+    private int playGame(BoardController controller, Selectable[] players, Point p) {
+        int current = 1;
+
+        for (int ply = 0 ; ply < this.m_maxPlies ; ply++) {
+            //a player who can not select any slot forfeits
+            int choice = players[current - 1].selectSlot();
+            if (choice <= 0)
+                return 3 - current;
+
+            //an illegal selection is prompted again (as in the game), but still counts as a ply
+            p.setCoordinates(choice - 1, current - 1);
+            if (controller.playSlot(p) < 0)
+                continue;
+
+            if (controller.getStoredSeeds(current) > 24)
+                return current;
+
+            current = 3 - current;
+        }
+
+        return 0;
+    }
+
+    /**
+     * Results of a batch of games
+     */
+    public static final class Statistics {
+        private final LongAdder[] m_wins = {new LongAdder(), new LongAdder()};
+        private final LongAdder m_draws = new LongAdder();
+        private long m_nanos;
+
+        /**
+         * Get the amount of games won by a player
+         * @param ID ID of the player
+         * @return Amount of games won
+         * @throws InvalidParameterException
+         */
+        public long getWins(int ID) throws InvalidParameterException {
+            Board.validateID(ID, "SelfPlayController.Statistics.getWins()");
+            return this.m_wins[ID - 1].sum();
+        }
+
+        /**
+         * Get the amount of games ending in a draw
+         * @return Amount of draws
+         */
+        public long getDraws() {
+            return this.m_draws.sum();
+        }
+
+        /**
+         * Get the amount of games played
+         * @return Amount of games
+         */
+        public long getGames() {
+            return this.getWins(1) + this.getWins(2) + this.getDraws();
+        }
+
+        /**
+         * Get the amount of games played per second
+         * @return Throughput (in games/s)
+         */
+        public double getGamesPerSecond() {
+            return this.getGames() / (Math.max(1L, this.m_nanos) / 1e9);
+        }
+
+        /**
+         * Get the statistics as text
+         * @return Statistics
+         */
+        @Override
+        public String toString() {
+            return String.format("%d games : player 1 %d wins, %d draws, player 2 %d wins (%.1f games/s)", this.getGames(), this.getWins(1), this.getDraws(), this.getWins(2), this.getGamesPerSecond());
+        }
+    }
+
+    /**
+     * Create a behaviour factory from its name
+     * @param name random, minimax:<depth> or pvs:<depth>
+     * @return Factory creating the behaviour on a board controller
+     * @throws InvalidParameterException
+     */
+    private static Function<BoardController, Selectable> factory(String name) throws InvalidParameterException {
+        String[] parts = name.split(":");
+        int depth = (parts.length > 1 ? Integer.parseInt(parts[1]) : 4);
+
+        switch (parts[0]) {
+            case "random":
+                return RandomSelect::new;
+
+            case "minimax":
+                return c -> {
+                    MinimaxSelect s = new MinimaxSelect(c);
+                    s.setMaxDepth(depth);
+                    return s;
+                };
+
+            case "pvs":
+                return c -> {
+                    PVSSelect s = new PVSSelect(c);
+                    s.setMaxDepth(depth);
+                    return s;
+                };
+
+            default:
+                throw new InvalidParameterException("SelfPlayController.factory() : invalid behaviour : " + name);
+        }
+    }
+
+    /**
+     * Play a batch of games between two behaviours and print the statistics
+     * @param args Amount of games, behaviour of player 1, behaviour of player 2 (random, minimax:<depth> or pvs:<depth>)
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.out.println("Usage : SelfPlayController <games> <player 1> <player 2>   (players : random, minimax:<depth>, pvs:<depth>)");
+            return;
+        }
+
+        SelfPlayController selfPlay = new SelfPlayController(factory(args[1]), factory(args[2]));
+        System.out.println(selfPlay.play(Long.parseLong(args[0])));
+    }
+}
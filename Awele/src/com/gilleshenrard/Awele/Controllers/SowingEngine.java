@@ -0,0 +1,125 @@
+/****************************************************************************************************/
+/*  Class SowingEngine                                                                              */
+/*  Performs the harvest and capture mechanics on packed board values (see Board)                   */
+/*  The seeds added to each slot and the final slot of a scattering are precomputed in static       */
+/*      tables for every (start slot, amount of seeds) pair, so a season is an addition over the    */
+/*      12 slots followed by a capture walk                                                         */
+/*  When only the outcome is needed, the capture walk reads the values the scattering would give,   */
+/*      without writing them                                                                        */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Controllers;
+
+import com.gilleshenrard.Awele.Models.Board;
+
+final class SowingEngine {
+    private final static int MAX_SEEDS = 48;
+    private final static int NB_SLOTS = Board.NB_SLOTS;
+    private final static byte[] INCREMENTS;
+    private final static byte[] FINAL_SLOT;
+
+    static {
+        INCREMENTS = new byte[NB_SLOTS * (MAX_SEEDS + 1) * NB_SLOTS];
+        FINAL_SLOT = new byte[NB_SLOTS * (MAX_SEEDS + 1)];
+
+        for (int start = 0 ; start < NB_SLOTS ; start++) {
+            for (int nbseeds = 0 ; nbseeds <= MAX_SEEDS ; nbseeds++) {
+                int row = (start * (MAX_SEEDS + 1) + nbseeds);
+
+                //each scattering turn fills the 11 slots following the start one (which is skipped)
+                for (int step = 1 ; step < NB_SLOTS ; step++) {
+                    int slot = (start + step) % NB_SLOTS;
+                    int added = nbseeds / (NB_SLOTS - 1) + (step <= nbseeds % (NB_SLOTS - 1) ? 1 : 0);
+                    INCREMENTS[row * NB_SLOTS + slot] = (byte)added;
+                }
+
+                //final slot in which a seed is scattered (start slot itself if no seeds)
+                FINAL_SLOT[row] = (byte)(nbseeds == 0 ? start : (start + 1 + (nbseeds - 1) % (NB_SLOTS - 1)) % NB_SLOTS);
+            }
+        }
+    }
+
+    /**
+     * Static class, not meant to be instantiated
+     */
+    private SowingEngine() {}
+
+    /**
+     * Harvest a slot and scatter its seeds in dst, then capture the seeds of the opponent if possible
+     * @param src Packed board values before the season (not modified)
+     * @param dst Packed board values after the season (undefined if the season is illegal)
+     * @param dstOffset Offset in dst at which write the values
+     * @param start Index of the slot to harvest (0-5 for player 1, 6-11 for player 2)
+     * @return -2 if empty slot, -1 if starvation, amount of seeds captured otherwise
+     */
+    static int play(byte[] src, byte[] dst, int dstOffset, int start) {
+        int nbseeds = src[start];
+        if (nbseeds == 0)
+            return -2;
+
+        //scatter the seeds (one addition per slot), then empty the start slot
+        int row = (start * (MAX_SEEDS + 1) + nbseeds);
+        int offset = row * NB_SLOTS;
+        for (int i = 0 ; i < NB_SLOTS ; i++)
+            dst[dstOffset + i] = (byte)(src[i] + INCREMENTS[offset + i]);
+        dst[dstOffset + start] = 0;
+        dst[dstOffset + NB_SLOTS] = src[NB_SLOTS];
+        dst[dstOffset + NB_SLOTS + 1] = src[NB_SLOTS + 1];
+
+        //capture backwards from the final slot while on the opponent's row and slots holding 2 or 3 seeds
+        int opponentStart = (start < 6 ? 6 : 0);
+        int captured = 0;
+        int slot = FINAL_SLOT[row];
+        while (slot >= opponentStart && slot < opponentStart + 6 && (dst[dstOffset + slot] == 2 || dst[dstOffset + slot] == 3)) {
+            captured += dst[dstOffset + slot];
+            dst[dstOffset + slot] = 0;
+            slot--;
+        }
+
+        //the opponent can not be starved (no seeds left on its row)
+        int remaining = 0;
+        for (int i = opponentStart ; i < opponentStart + 6 ; i++)
+            remaining += dst[dstOffset + i];
+        if (remaining == 0)
+            return -1;
+
+        //store the seeds captured
+        int store = dstOffset + NB_SLOTS + (start < 6 ? 0 : 1);
+        dst[store] = (byte)(dst[store] + captured);
+        return captured;
+    }
+
+    /**
+     * Get the outcome of a season without writing the board values resulting from it
+     * @param src Packed board values before the season (not modified)
+     * @param start Index of the slot to harvest (0-5 for player 1, 6-11 for player 2)
+     * @return -2 if empty slot, -1 if starvation, amount of seeds captured otherwise
+     */
+    static int outcome(byte[] src, int start) {
+        int nbseeds = src[start];
+        if (nbseeds == 0)
+            return -2;
+
+        //capture backwards from the final slot, reading the values the scattering would give
+        int row = (start * (MAX_SEEDS + 1) + nbseeds);
+        int offset = row * NB_SLOTS;
+        int opponentStart = (start < 6 ? 6 : 0);
+        int captured = 0;
+        int slot = FINAL_SLOT[row];
+        while (slot >= opponentStart && slot < opponentStart + 6) {
+            int seeds = src[slot] + INCREMENTS[offset + slot];
+            if (seeds != 2 && seeds != 3)
+                break;
+            captured += seeds;
+            slot--;
+        }
+
+        //the opponent can not be starved (the seeds captured all come from its row)
+        int remaining = -captured;
+        for (int i = opponentStart ; i < opponentStart + 6 ; i++)
+            remaining += src[i] + INCREMENTS[offset + i];
+
+        return (remaining == 0 ? -1 : captured);
+    }
+}
@@ -4,7 +4,7 @@
 /*  Makes the player play the slot selected in the Prompting state, then                            */
 /*      either leads back to the Prompting state, or leads to the Storing state                     */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.FSM;
 
@@ -15,15 +15,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class PlayingState implements iGameState {
-    private int m_slot = 0;
-
-    /**
-     * Set the slot to play
-     * @param input Slot index to play
-     */
-    public void setInput(int input) {
-        this.m_slot = input;
-    }
+    private final static Logger LOGGER = Logger.getLogger(PlayingState.class.getName());
 
     /**
      * Make the player play a slot
@@ -33,14 +25,15 @@ public class PlayingState implements iGameState {
     @Override
     public void handleState(GameController controller){
         //play the slot selected
-        int outcome = controller.playSlot(new Point(this.m_slot - 1, controller.getCurrentPlayer() - 1));
-        Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + controller.getCurrentPlayer() + " : playSlot() returned " + outcome);
+        int outcome = controller.playSlot(new Point(controller.getSelection() - 1, controller.getCurrentPlayer() - 1));
+        LOGGER.log(controller.getMoveLogLevel(), "Player " + controller.getCurrentPlayer() + " : playSlot() returned " + outcome);
 
         if (outcome < 0) {  //player starved or empty slot, get back to prompting state and display forfeit
             controller.setNextState(State.PROMPTING);
             handleOutcome(controller, outcome);
         }
-        else {  //Go to the Storing state
+        else {  //record the move, then go to the Storing state
+            controller.recordMove(outcome);
             controller.setNextState(State.STORING);
         }
     }
@@ -54,13 +47,13 @@ public class PlayingState implements iGameState {
         //player starved
         if (outcome == -1) {
             controller.displayWarning("A player can't be starved. Its amount of seeds can't get to 0");
-            Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
+            LOGGER.log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
         }
 
         //empty slot played
         if (outcome == -2) {
             controller.displayWarning("An empty slot can not be harvested");
-            Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
+            LOGGER.log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
         }
     }
 }
\ No newline at end of file
@@ -4,16 +4,19 @@
 /*  Makes the player select a slot, then either leads to the Playing state,                         */
 /*      or returns an error code (-2 in case of forfeit)                                            */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.FSM;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
 
+import java.time.Duration;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class PromptingState implements iGameState {
+    private final static Logger LOGGER = Logger.getLogger(PromptingState.class.getName());
+
     /**
      * Make the player select its entry and display it on the screen
      * @param controller Game controller to use
@@ -27,25 +30,24 @@ public class PromptingState implements iGameState {
         //initialise the date and time of the game
         if (controller.getTime() == null) {
             controller.setTimeNow();
-            Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Date and time of the game set");
+            LOGGER.log(Level.FINE, "Date and time of the game set");
         }
 
-        //make any AI player wait for 1s before choosing
-        if (controller.isPlayerAI(controller.getCurrentPlayer())) {
-            Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : waits for 1s");
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-            }
-        }
+        //get the choice from the user (nothing left to select once the game is over)
+        long start = System.nanoTime();
+        int choice = (controller.isGameOver() ? 0 : controller.selectSlot(controller.getCurrentPlayer()));
+        Duration thinkTime = Duration.ofNanos(System.nanoTime() - start);
+        LOGGER.log(controller.getMoveLogLevel(), "Player " + controller.getCurrentPlayer() + " : selectSlot() returned " + choice);
 
-        //get the choice from the user
-        int choice = controller.selectSlot(controller.getCurrentPlayer());
-        Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + controller.getCurrentPlayer() + " : selectSlot() returned " + choice);
+        //make any AI player wait as required by the pacing policy, so its move can be followed on screen
+        if (!controller.isGameOver() && controller.isPlayerAI(controller.getCurrentPlayer())) {
+            Duration pause = controller.pace(thinkTime);
+            LOGGER.log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : waited for " + pause.toMillis() + "ms");
+        }
 
         if (controller.isGameOver()) {
             //stop the game clock
-            Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Game clock stopped");
+            LOGGER.log(Level.INFO, "Game clock stopped");
             controller.stopClock();
 
             //pause the game thread loop
@@ -54,7 +56,7 @@ public class PromptingState implements iGameState {
 
         if (controller.isMenuRequested()) {
             //stop the game clock
-            Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Game clock stopped");
+            LOGGER.log(Level.INFO, "Game clock stopped");
             controller.stopClock();
 
             //plug in the Menu state
@@ -63,19 +65,19 @@ public class PromptingState implements iGameState {
             if (choice > 0) {
                 if (controller.isPlayerAI(controller.getCurrentPlayer())) {
                     controller.displayMessage(controller.getName(controller.getCurrentPlayer()) + " harvests the slot " + choice);
-                    Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
+                    LOGGER.log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
                 }
 
                 //plug in the Playing state
                 controller.setNextState(State.PLAYING);
-                ((PlayingState) State.PLAYING.getState()).setInput(choice);
+                controller.setSelection(choice, thinkTime);
             } else {
                 //save the current game
                 controller.stopClock();
                 controller.saveGame(3 - controller.getCurrentPlayer());
 
                 //display forfeiture message
-                Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + controller.getCurrentPlayer() + " forfeits");
+                LOGGER.log(Level.INFO, "Player " + controller.getCurrentPlayer() + " forfeits");
                 controller.displayMessage(controller.getName(controller.getCurrentPlayer()) + " can't make any move. He forfeits !");
 
                 //Easter egg : when both players play randomly and one of them forfeits, he says the last quote of the W.P.O.R. in the movie Wargames
@@ -85,7 +87,7 @@ public class PromptingState implements iGameState {
                 }
 
                 //request a pause at the end of the season
-                Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Pause the season");
+                LOGGER.log(Level.INFO, "Pause the season");
                 controller.setGameOver(true);
             }
         }
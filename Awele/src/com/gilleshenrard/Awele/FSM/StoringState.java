@@ -14,6 +14,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class StoringState implements iGameState {
+    private final static Logger LOGGER = Logger.getLogger(StoringState.class.getName());
+
     /**
      * Store the seeds captured by the player
      * @param controller Game controller to use
@@ -30,10 +32,10 @@ public class StoringState implements iGameState {
             //display the game board
             controller.displayGame();
             controller.displayMessage(controller.getName(controller.getCurrentPlayer()) + " won the game !");
-            Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
+            LOGGER.log(Level.FINE, "Player " + controller.getCurrentPlayer() + " : message displayed");
 
             //request a pause at the end of current season
-            Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Pause requested at next season");
+            LOGGER.log(Level.INFO, "Pause requested at next season");
             controller.setGameOver(true);
         }
 
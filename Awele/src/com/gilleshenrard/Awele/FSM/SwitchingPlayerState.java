@@ -13,6 +13,8 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class SwitchingPlayerState implements iGameState {
+    private final static Logger LOGGER = Logger.getLogger(SwitchingPlayerState.class.getName());
+
     /**
      * Switch players (1 becomes 2, 2 becomes 1)
      * @param controller Game controller to use
@@ -22,7 +24,7 @@ public class SwitchingPlayerState implements iGameState {
     public void handleState(GameController controller){
         //switch user
         controller.setCurrentPlayer(controller.getOpponent());
-        Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + controller.getCurrentPlayer() + "'s turn");
+        LOGGER.log(controller.getMoveLogLevel(), "Player " + controller.getCurrentPlayer() + "'s turn");
 
         //plug in the Prompting state
         controller.setNextState(State.PROMPTING);
@@ -0,0 +1,594 @@
+/****************************************************************************************************/
+/*  Class BinaryGameLog                                                                             */
+/*  Implements iGameStorage                                                                         */
+/*  Append-only storage of the finished games, for the self-play farms for which even batched       */
+/*      SQLite inserts are too slow                                                                 */
+/*  Each game is a fixed-width record, appended through a buffer to a segmented log (one file per   */
+/*      segment in the directory of the log), and synced to the disk periodically                   */
+/*  The scores and statistics are read by scanning memory-mapped segments (the moves are not kept)  */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class BinaryGameLog implements iGameStorage {
+    private final static Logger LOGGER = Logger.getLogger(BinaryGameLog.class.getName());
+    //record : startTime (epoch seconds, 8), duration (seconds, 4), winner ID (1), seeds of each player (1 + 1),
+    //  reserved (1), name of each player (UTF-8 padded with zeros, 24 + 24)
+    public final static int RECORD_SIZE = 64;
+    private final static int CLOCK_OFFSET = 8;
+    private final static int WINNER_OFFSET = 12;
+    private final static int SEEDS_OFFSET = 13;
+    private final static int NAME_OFFSET = 16;
+    private final static int NAME_SIZE = 24;
+    private final static int BUFFER_RECORDS = 1024;
+    private final static String SEGMENT_FORMAT = "games-%06d.log";
+    private final ReentrantLock m_lock;
+    private String m_path;
+    private int m_segmentRecords;
+    private Duration m_syncInterval;
+    private FileChannel m_channel;
+    private ByteBuffer m_buffer;
+    private int m_segment;
+    private int m_segmentCount;
+    private ScheduledExecutorService m_syncer;
+    private String[] m_lastNames;
+    private byte[][] m_lastNameBytes;
+
+    /**
+     * Create a new binary game log, not opened yet
+     */
+    public BinaryGameLog() {
+        this.m_lock = new ReentrantLock();
+        this.m_path = null;
+        this.m_segmentRecords = 1 << 20;
+        this.m_syncInterval = Duration.ofSeconds(1);
+        this.m_channel = null;
+        this.m_buffer = ByteBuffer.allocateDirect(BUFFER_RECORDS * RECORD_SIZE);
+        this.m_segment = 0;
+        this.m_segmentCount = 0;
+        this.m_syncer = null;
+        this.m_lastNames = new String[2];
+        this.m_lastNameBytes = new byte[2][];
+    }
+
+    /**
+     * Set the path to the directory of the log
+     * @param path Path to the directory
+     */
+    @Override
+    public void setPath(String path) {
+        this.m_path = path;
+    }
+
+    /**
+     * Set the max amount of records in a segment (only applies to the segments created afterwards)
+     * @param records Max amount of records
+     * @throws InvalidParameterException
+     */
+    public void setSegmentRecords(int records) throws InvalidParameterException {
+        if (records <= 0 || records > Integer.MAX_VALUE / RECORD_SIZE)
+            throw new InvalidParameterException("BinaryGameLog.setSegmentRecords() : invalid amount of records (" + records + ")");
+
+        this.m_segmentRecords = records;
+    }
+
+    /**
+     * Set the interval between two syncs to the disk (a crash may lose the games saved since the last one)
+     * @param interval Sync interval
+     * @throws InvalidParameterException
+     */
+    public void setSyncInterval(Duration interval) throws InvalidParameterException {
+        if (interval == null || interval.isNegative() || interval.isZero())
+            throw new InvalidParameterException("BinaryGameLog.setSyncInterval() : invalid sync interval (" + interval + ")");
+
+        this.m_syncInterval = interval;
+    }
+
+    /**
+     * Get the path of a segment of the log
+     * @param directory Directory of the log
+     * @param segment Index of the segment
+     * @return Path of the segment
+     */
+    private static Path getSegmentPath(Path directory, int segment) {
+        return directory.resolve(String.format(SEGMENT_FORMAT, segment));
+    }
+
+    /**
+     * Open the last segment of the log to append to it (the log is created if it does not exist yet),
+     *  and start the periodic syncs
+     */
+    @Override
+    public void connect() {
+        try {
+            Path directory = Paths.get(this.m_path);
+            Files.createDirectories(directory);
+
+            //find the last segment, then drop any record partially written before a crash
+            int last = 0;
+            while (Files.exists(getSegmentPath(directory, last + 1)))
+                last++;
+
+            this.m_lock.lock();
+            try {
+                this.m_segment = last;
+                this.m_channel = FileChannel.open(getSegmentPath(directory, last), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                long size = this.m_channel.size() - this.m_channel.size() % RECORD_SIZE;
+                this.m_channel.truncate(size);
+                this.m_channel.position(size);
+                this.m_segmentCount = (int)(size / RECORD_SIZE);
+                this.m_buffer.clear();
+            }
+            finally {
+                this.m_lock.unlock();
+            }
+            LOGGER.log(Level.FINE, "Binary log " + this.m_path + " opened at segment " + last);
+
+            //sync the records appended on a regular basis
+            this.m_syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "BinaryGameLog sync");
+                t.setDaemon(true);
+                return t;
+            });
+            long interval = this.m_syncInterval.toNanos();
+            this.m_syncer.scheduleWithFixedDelay(this::flush, interval, interval, TimeUnit.NANOSECONDS);
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage());
+        }
+    }
+
+    /**
+     * Write and sync the records still buffered, then close the log
+     */
+    @Override
+    public void close() {
+        if (this.m_syncer != null) {
+            this.m_syncer.shutdownNow();
+            this.m_syncer = null;
+        }
+
+        this.m_lock.lock();
+        try {
+            if (this.m_channel == null)
+                return;
+
+            try {
+                this.writeBuffer();
+                this.m_channel.force(true);
+                LOGGER.log(Level.FINE, "Binary log closed");
+            }
+            catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Binary log closed with " + this.m_buffer.position() / RECORD_SIZE + " games not written : " + e.getMessage());
+            }
+
+            try {
+                this.m_channel.close();
+            }
+            catch (IOException e) {
+                LOGGER.log(Level.SEVERE, e.getMessage());
+            }
+            this.m_channel = null;
+            this.m_buffer.clear();
+        }
+        finally {
+            this.m_lock.unlock();
+        }
+    }
+
+    /**
+     * Append a game to the log (only written to the disk once the buffer is full, or at the next sync)
+     * @param game Game to save
+     * @param winner ID of the winner
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    @Override
+    public void saveGame(Game game, int winner) throws NullPointerException, InvalidParameterException {
+        Game.validateID(winner, "BinaryGameLog.saveGame()");
+        if (game.getTime() == null)
+            throw new NullPointerException("BinaryGameLog.saveGame() : game not started");
+
+        //read the values of the game before taking the lock
+        long time = game.getTime().toEpochSecond(ZoneOffset.UTC);
+        int clock = game.getClock().toSecondOfDay();
+        int seeds1 = game.getBoard().getStoredSeeds(1);
+        int seeds2 = game.getBoard().getStoredSeeds(2);
+        String name1 = game.getName(1);
+        String name2 = game.getName(2);
+
+        this.m_lock.lock();
+        try {
+            if (this.m_channel == null) {
+                LOGGER.log(Level.SEVERE, "Game not saved : binary log not opened");
+                return;
+            }
+
+            //make room for the record (the records buffered are kept until they are written)
+            try {
+                if (!this.m_buffer.hasRemaining())
+                    this.writeBuffer();
+                if (this.m_segmentCount >= this.m_segmentRecords)
+                    this.nextSegment();
+            }
+            catch (IOException e) {
+                LOGGER.log(Level.SEVERE, "Game not saved : " + e.getMessage());
+                return;
+            }
+
+            this.m_buffer.putLong(time);
+            this.m_buffer.putInt(clock);
+            this.m_buffer.put((byte)winner);
+            this.m_buffer.put((byte)seeds1);
+            this.m_buffer.put((byte)seeds2);
+            this.m_buffer.put((byte)0);
+            this.m_buffer.put(this.encodeName(0, name1));
+            this.m_buffer.put(this.encodeName(1, name2));
+            this.m_segmentCount++;
+
+            //write the buffer once full (kept to be written again at the next attempt if failing)
+            if (!this.m_buffer.hasRemaining())
+                this.writeBuffer();
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Games buffered not written : " + e.getMessage());
+        }
+        finally {
+            this.m_lock.unlock();
+        }
+    }
+
+    /**
+     * Get the name of a player encoded in the fixed width of a record (the last one of each player is cached)
+     * @param index Index of the player (0 or 1)
+     * @param name Name to encode
+     * @return Encoded name (UTF-8, truncated or padded with zeros)
+     */
+    private byte[] encodeName(int index, String name) {
+        if (!name.equals(this.m_lastNames[index])) {
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+
+            //truncate without splitting a multi-byte character
+            int length = Math.min(bytes.length, NAME_SIZE);
+            while (length < bytes.length && length > 0 && (bytes[length] & 0xC0) == 0x80)
+                length--;
+
+            this.m_lastNames[index] = name;
+            this.m_lastNameBytes[index] = Arrays.copyOf(Arrays.copyOf(bytes, length), NAME_SIZE);
+        }
+
+        return this.m_lastNameBytes[index];
+    }
+
+    /**
+     * Write the records buffered to the current segment (lock held by the caller)
+     * If the write fails, the records not written yet stay in the buffer, to be written at the next attempt
+     * @throws IOException
+     */
+    private void writeBuffer() throws IOException {
+        this.m_buffer.flip();
+        try {
+            while (this.m_buffer.hasRemaining())
+                this.m_channel.write(this.m_buffer);
+        }
+        finally {
+            this.m_buffer.compact();
+        }
+    }
+
+    /**
+     * Write and sync the current segment, then start the next one (lock held by the caller)
+     * If any step fails, the current segment is kept
+     * @throws IOException
+     */
+    private void nextSegment() throws IOException {
+        this.writeBuffer();
+        this.m_channel.force(false);
+        FileChannel next = FileChannel.open(getSegmentPath(Paths.get(this.m_path), this.m_segment + 1), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+        this.m_channel.close();
+        this.m_channel = next;
+        this.m_segment++;
+        this.m_segmentCount = 0;
+        LOGGER.log(Level.FINE, "Binary log segment " + this.m_segment + " started");
+    }
+
+    /**
+     * Write the records buffered, and sync them to the disk
+     */
+    @Override
+    public void flush() {
+        FileChannel channel;
+        this.m_lock.lock();
+        try {
+            if (this.m_channel == null)
+                return;
+
+            this.writeBuffer();
+            channel = this.m_channel;
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Games buffered not written : " + e.getMessage());
+            return;
+        }
+        finally {
+            this.m_lock.unlock();
+        }
+
+        //sync outside of the lock, so the games can be appended meanwhile
+        try {
+            channel.force(false);
+        }
+        catch (ClosedChannelException e) {
+            //segment closed meanwhile, and synced before
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage());
+        }
+    }
+
+    /**
+     * Open a reader on the records written so far
+     * @return Reader, or null if the log can not be read
+     */
+    private Reader openReader() {
+        if (this.m_path == null) {
+            LOGGER.log(Level.SEVERE, "Binary log not read : no path set");
+            return null;
+        }
+
+        //make the records buffered visible to the reader
+        this.m_lock.lock();
+        try {
+            if (this.m_channel != null)
+                this.writeBuffer();
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Games buffered not written : " + e.getMessage());
+        }
+        finally {
+            this.m_lock.unlock();
+        }
+
+        try {
+            return new Reader(this.m_path);
+        }
+        catch (IOException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Select a page of the games saved in the log, the most recent first
+     * @param beforeID ID of the last game of the previous page (Long.MAX_VALUE for the first page)
+     * @param limit Max amount of games in the page
+     * @return Games of the page (empty if no more games)
+     * @throws InvalidParameterException
+     */
+    @Override
+    public List<GameRecord> selectGames(long beforeID, int limit) throws InvalidParameterException {
+        if (limit <= 0)
+            throw new InvalidParameterException("BinaryGameLog.selectGames() : negative or null limit (" + limit + ")");
+
+        List<GameRecord> games = new ArrayList<>(limit);
+        Reader reader = this.openReader();
+        if (reader == null)
+            return games;
+
+        //the IDs are the positions of the records in the log, starting from 1
+        long ID = Math.min(beforeID - 1, reader.size());
+        while (ID > 0 && games.size() < limit)
+            games.add(reader.get(ID--));
+
+        return games;
+    }
+
+    /**
+     * Select the statistics of the best players (the most wins first, then the fewest losses)
+     * @param limit Max amount of players
+     * @return Statistics of the players (empty if none)
+     * @throws InvalidParameterException
+     */
+    @Override
+    public List<PlayerStats> selectLeaderboard(int limit) throws InvalidParameterException {
+        if (limit <= 0)
+            throw new InvalidParameterException("BinaryGameLog.selectLeaderboard() : negative or null limit (" + limit + ")");
+
+        Reader reader = this.openReader();
+        if (reader == null)
+            return new ArrayList<>();
+
+        List<PlayerStats> players = new ArrayList<>(reader.aggregate().values());
+        players.sort(Comparator.comparingInt(PlayerStats::getWins).reversed().thenComparingInt(PlayerStats::getLosses));
+
+        return new ArrayList<>(players.subList(0, Math.min(limit, players.size())));
+    }
+
+    /**
+     * Select the statistics of a player
+     * @param name Name of the player
+     * @return Statistics of the player, or null if the player never played (or the log can not be read)
+     * @throws NullPointerException
+     */
+    @Override
+    public PlayerStats selectPlayerStats(String name) throws NullPointerException {
+        if (name == null)
+            throw new NullPointerException("BinaryGameLog.selectPlayerStats() : NULL instance of name");
+
+        Reader reader = this.openReader();
+        return (reader == null ? null : reader.aggregate().get(name));
+    }
+
+    /**
+     * Select the moves of a game (not kept in the log, the records being fixed-width)
+     * @param ID ID of the game
+     * @return null
+     */
+    @Override
+    public MoveLog selectMoves(long ID) {
+        LOGGER.log(Level.FINE, "Moves not kept in a binary log");
+        return null;
+    }
+
+    /**
+     * Read-only view of the records of a log, mapped in memory (the records appended afterwards are not seen)
+     * Not thread-safe : each thread must use a reader of its own
+     */
+    public static final class Reader {
+        private final List<ByteBuffer> m_segments;
+        private final long[] m_firstIDs;
+        private final long m_size;
+        private final String[] m_lastNames;
+        private final byte[][] m_lastNameBytes;
+
+        /**
+         * Map all the segments of a log
+         * @param path Path to the directory of the log
+         * @throws IOException
+         */
+        public Reader(String path) throws IOException {
+            Path directory = Paths.get(path);
+            this.m_segments = new ArrayList<>();
+            for (int i = 0 ; Files.exists(getSegmentPath(directory, i)) ; i++) {
+                try (FileChannel channel = FileChannel.open(getSegmentPath(directory, i), StandardOpenOption.READ)) {
+                    long size = channel.size() - channel.size() % RECORD_SIZE;
+                    this.m_segments.add(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+                }
+            }
+
+            //ID of the first record of each segment
+            long size = 0;
+            this.m_firstIDs = new long[this.m_segments.size()];
+            for (int i = 0 ; i < this.m_segments.size() ; i++) {
+                this.m_firstIDs[i] = size + 1;
+                size += this.m_segments.get(i).limit() / RECORD_SIZE;
+            }
+            this.m_size = size;
+            this.m_lastNames = new String[2];
+            this.m_lastNameBytes = new byte[2][NAME_SIZE];
+        }
+
+        /**
+         * Get the amount of records in the log
+         * @return Amount of records
+         */
+        public long size() {
+            return this.m_size;
+        }
+
+        /**
+         * Get a record
+         * @param ID ID of the record (1 to size())
+         * @return Game recorded
+         * @throws InvalidParameterException
+         */
+        public GameRecord get(long ID) throws InvalidParameterException {
+            if (ID < 1 || ID > this.m_size)
+                throw new InvalidParameterException("BinaryGameLog.Reader.get() : invalid ID (" + ID + ")");
+
+            //find the segment holding the record
+            int segment = Arrays.binarySearch(this.m_firstIDs, ID);
+            if (segment < 0)
+                segment = -segment - 2;
+            ByteBuffer buffer = this.m_segments.get(segment);
+            int position = (int)(ID - this.m_firstIDs[segment]) * RECORD_SIZE;
+
+            return new GameRecord(ID,
+                                LocalDateTime.ofEpochSecond(buffer.getLong(position), 0, ZoneOffset.UTC),
+                                LocalTime.ofSecondOfDay(buffer.getInt(position + CLOCK_OFFSET)),
+                                this.readName(buffer, position, 0),
+                                this.readName(buffer, position, 1),
+                                buffer.get(position + WINNER_OFFSET),
+                                buffer.get(position + SEEDS_OFFSET),
+                                buffer.get(position + SEEDS_OFFSET + 1));
+        }
+
+        /**
+         * Scan all the records and aggregate the results of each player
+         * @return Statistics of each player, by name
+         */
+        public HashMap<String, PlayerStats> aggregate() {
+            //wins, losses, seeds, duration of each player
+            HashMap<String, long[]> totals = new HashMap<>();
+            for (ByteBuffer buffer : this.m_segments) {
+                for (int position = 0 ; position < buffer.limit() ; position += RECORD_SIZE) {
+                    int clock = buffer.getInt(position + CLOCK_OFFSET);
+                    int winner = buffer.get(position + WINNER_OFFSET);
+                    for (int i = 0 ; i < 2 ; i++) {
+                        long[] t = totals.computeIfAbsent(this.readName(buffer, position, i), k -> new long[4]);
+                        t[(winner == i + 1) ? 0 : 1]++;
+                        t[2] += buffer.get(position + SEEDS_OFFSET + i);
+                        t[3] += clock;
+                    }
+                }
+            }
+
+            HashMap<String, PlayerStats> players = new HashMap<>();
+            for (String name : totals.keySet()) {
+                long[] t = totals.get(name);
+                players.put(name, new PlayerStats(name, (int)t[0], (int)t[1], t[2], Duration.ofSeconds(t[3])));
+            }
+
+            return players;
+        }
+
+        /**
+         * Read the name of a player in a record (the last one of each player is cached, so a series of games
+         *  between the same players decodes no string)
+         * @param buffer Segment holding the record
+         * @param position Position of the record in the segment
+         * @param index Index of the player (0 or 1)
+         * @return Name of the player
+         */
+        private String readName(ByteBuffer buffer, int position, int index) {
+            int offset = position + NAME_OFFSET + index * NAME_SIZE;
+            byte[] last = this.m_lastNameBytes[index];
+
+            //compare the bytes with the last name read
+            boolean same = (this.m_lastNames[index] != null);
+            for (int i = 0 ; i < NAME_SIZE && same ; i++)
+                same = (buffer.get(offset + i) == last[i]);
+            if (same)
+                return this.m_lastNames[index];
+
+            //decode the name up to its first zero
+            int length = 0;
+            for (int i = 0 ; i < NAME_SIZE ; i++) {
+                last[i] = buffer.get(offset + i);
+                if (last[i] != 0 && length == i)
+                    length = i + 1;
+            }
+            this.m_lastNames[index] = new String(last, 0, length, StandardCharsets.UTF_8);
+
+            return this.m_lastNames[index];
+        }
+    }
+}
@@ -1,33 +1,32 @@
 /****************************************************************************************************/
 /*  Class Board                                                                                     */
 /*  Encloses the game board manipulations                                                           */
-/*  The board contains a static array of slots, a players' remaining seeds count                    */
-/*      and a players' stored (saved) seeds count                                                   */
+/*  The board is packed in a single array of bytes : 12 slots (player 1 row, then player 2 row),    */
+/*      followed by the players' stored (saved) seeds count                                         */
+/*  A Zobrist hash of the values is updated each time a slot or a store changes                     */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 11/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Models;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
+import java.util.Arrays;
 
 public class Board {
-    private Slot[][] m_slots;
-    private int[] m_storedSeeds;
+    public final static int NB_SLOTS = 12;
+    public final static int NB_CELLS = NB_SLOTS + 2;
+    private final static int STORE_OFFSET = NB_SLOTS - 1;
+    private byte[] m_cells;
+    private long m_hash;
 
     /**
      * Create new Board
      */
     public Board(){
-        this.m_storedSeeds = new int[2];
-        java.util.Arrays.fill(m_storedSeeds, 0);
-        
-        this.m_slots = new Slot[2][6];
-        for (int l = 0 ; l < 2 ; l++){
-            for (int c = 0 ; c < 6 ; c++){
-                this.m_slots[l][c] = new Slot(c, l);
-            }
-        }
+        this.m_cells = new byte[NB_CELLS];
+        Arrays.fill(this.m_cells, 0, NB_SLOTS, (byte)4);
+        this.m_hash = Zobrist.hash(this.m_cells);
     }
 
     /**
@@ -35,7 +34,7 @@ public class Board {
      * @param board Board to copy
      */
     public Board(Board board){
-        this();
+        this.m_cells = new byte[NB_CELLS];
         this.copy(board);
     }
 
@@ -48,20 +47,51 @@ public class Board {
         if (board == null)
             throw new NullPointerException("Board.copy() : NULL instance of Board");
 
-        //copy the stored seeds values
-        this.setStoredSeeds(1, board.getStoredSeeds(1));
-        this.setStoredSeeds(2, board.getStoredSeeds(2));
-
-        //copy each slot value
-        Point p = new Point(0, 0);
-        for (int l = 0 ; l < 2 ; l++){
-            for (int c = 0 ; c < 6 ; c++){
-                p.setCoordinates(c, l);
-                this.m_slots[l][c].setNbSeeds(board.getSlot(p).getNbSeeds());
-            }
+        //copy the slots and the stored seeds values at once, along with their hash
+        System.arraycopy(board.m_cells, 0, this.m_cells, 0, NB_CELLS);
+        this.m_hash = board.m_hash;
+    }
+
+    /**
+     * Save the packed board values in a buffer
+     * @param buffer Buffer in which save the values
+     * @param offset Offset in the buffer at which save the values (NB_CELLS bytes are written)
+     */
+    public void saveState(byte[] buffer, int offset) {
+        System.arraycopy(this.m_cells, 0, buffer, offset, NB_CELLS);
+    }
+
+    /**
+     * Restore the packed board values from a buffer
+     * @param buffer Buffer from which restore the values
+     * @param offset Offset in the buffer at which the values have been saved
+     */
+    public void restoreState(byte[] buffer, int offset) {
+        for (int i = 0 ; i < NB_CELLS ; i++)
+            this.setCell(i, buffer[offset + i]);
+    }
+
+    /**
+     * Assign a value to a cell of the packed array and update the hash accordingly
+     * @param index Index of the cell
+     * @param value Value to assign
+     */
+    private void setCell(int index, int value) {
+        int old = this.m_cells[index];
+        if (old != value) {
+            this.m_hash ^= Zobrist.getCellKey(index, old) ^ Zobrist.getCellKey(index, value);
+            this.m_cells[index] = (byte)value;
         }
     }
 
+    /**
+     * Get the Zobrist hash of the slots and stored seeds (the player to play is not included, see Zobrist.getSideKey())
+     * @return Hash of the board
+     */
+    public long getHash() {
+        return this.m_hash;
+    }
+
     /**
      * Throw an exception if ID != 1 or ID != 2
      * @param ID ID of the player
@@ -96,7 +126,7 @@ public class Board {
         if(nb_seeds < 0 || nb_seeds > 48)
             throw new InvalidParameterException("Board.storeSeeds() : incorrect amount of seeds (value : " + nb_seeds + ")");
 
-        this.m_storedSeeds[ID - 1] = nb_seeds;
+        this.setCell(STORE_OFFSET + ID, nb_seeds);
     }
 
     /**
@@ -108,18 +138,18 @@ public class Board {
     public int getStoredSeeds(int ID) throws InvalidParameterException {
         Board.validateID(ID, "Board.getSeeds()");
 
-        return this.m_storedSeeds[ID - 1];
+        return this.m_cells[STORE_OFFSET + ID];
     }
 
     /**
-     * Get the slot located at point coordinates
+     * Get the index in the packed array of the slot located at point coordinates
      * @param point Coordinates of the slot
-     * @return Slot requested
+     * @return Index of the slot
      * @throws InvalidParameterException
      */
-    private Slot getSlot(Point point) throws InvalidParameterException{
-        Board.validateCoordinates(point, "Board.getSlot()");
-        return this.m_slots[point.getY()][point.getX()];
+    private static int getIndex(Point point) throws InvalidParameterException{
+        Board.validateCoordinates(point, "Board.getIndex()");
+        return point.getY() * 6 + point.getX();
     }
 
     /**
@@ -129,7 +159,10 @@ public class Board {
      * @throws InvalidParameterException
      */
     public void setSlotSeeds(Point point, int nbSeeds) throws InvalidParameterException{
-        this.getSlot(point).setNbSeeds(nbSeeds);
+        int index = Board.getIndex(point);
+        Slot.validateNbSeeds(nbSeeds, "Board.setSlotSeeds()");
+
+        this.setCell(index, nbSeeds);
     }
 
     /**
@@ -139,7 +172,7 @@ public class Board {
      * @throws InvalidParameterException
      */
     public int getSlotSeeds(Point point) throws InvalidParameterException{
-        return this.getSlot(point).getNbSeeds();
+        return this.m_cells[Board.getIndex(point)];
     }
 
     /**
@@ -148,7 +181,7 @@ public class Board {
      * @throws InvalidParameterException
      */
     public void emptySlotSeeds(Point point) throws InvalidParameterException{
-        this.getSlot(point).emptySeeds();
+        this.setCell(Board.getIndex(point), 0);
     }
 
     /**
@@ -267,16 +300,10 @@ public class Board {
      * Reset the board to an inial value
      */
     public void reset(){
-        this.setStoredSeeds(1, 0);
-        this.setStoredSeeds(2, 0);
-
-        Point p = new Point(0, 0);
-        for (int l = 0 ; l < 2 ; l++){
-            for (int c = 0 ; c < 6 ; c++){
-                p.setCoordinates(c, l);
-                this.setSlotSeeds(p, 4);
-            }
-        }
+        for (int i = 0 ; i < NB_SLOTS ; i++)
+            this.setCell(i, 4);
+        this.setCell(NB_SLOTS, 0);
+        this.setCell(NB_SLOTS + 1, 0);
     }
 
     /**
@@ -290,11 +317,33 @@ public class Board {
 
         ArrayList<Integer> array = new ArrayList<>();
 
-        for(Slot s : this.m_slots[ID-1]){
-            if (s.getNbSeeds() > 0)
-                array.add(s.getCoordinates().getX());
+        int offset = (ID - 1) * 6;
+        for(int x = 0 ; x < 6 ; x++){
+            if (this.m_cells[offset + x] > 0)
+                array.add(x);
         }
 
         return array;
     }
+
+    /**
+     * Check if o holds the same slots and stored seeds as the current Board
+     * @param o Object to check
+     * @return true if equal, false otherwise
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return Arrays.equals(this.m_cells, ((Board) o).m_cells);
+    }
+
+    /**
+     * Return the hashcode of the current Board
+     * @return Hashcode of the current Board
+     */
+    @Override
+    public int hashCode() {
+        return (int)(this.m_hash ^ (this.m_hash >>> 32));
+    }
 }
@@ -0,0 +1,228 @@
+/****************************************************************************************************/
+/*  Class ConnectionPool                                                                            */
+/*  Small pool of JDBC connections, opened on demand up to a maximum, and lent to one thread at a   */
+/*      time                                                                                        */
+/*  Each connection caches the statements prepared on it, so a query is only compiled once per      */
+/*      connection, and never shared by two threads at the same time                                */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.security.InvalidParameterException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class ConnectionPool implements AutoCloseable {
+    private final static Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+    private final String m_url;
+    private final int m_size;
+    private final Duration m_timeout;
+    private final Setup m_setup;
+    private final LinkedBlockingQueue<PooledConnection> m_idle;
+    private final List<PooledConnection> m_all;
+    private int m_opening;
+    private boolean m_closed;
+
+    /**
+     * Tuning applied to each connection when it is opened
+     */
+    @FunctionalInterface
+    public interface Setup {
+        void apply(Connection connection) throws SQLException;
+    }
+
+    /**
+     * Create a new empty connection pool
+     * @param url JDBC URL of the database
+     * @param size Max amount of connections opened
+     * @param timeout Max time to wait for a connection when all are lent
+     * @param setup Tuning applied to each connection when it is opened
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public ConnectionPool(String url, int size, Duration timeout, Setup setup) throws NullPointerException, InvalidParameterException {
+        if (url == null || timeout == null || setup == null)
+            throw new NullPointerException("ConnectionPool() : NULL instance of url, timeout or setup");
+        if (size <= 0)
+            throw new InvalidParameterException("ConnectionPool() : negative or null size (" + size + ")");
+
+        this.m_url = url;
+        this.m_size = size;
+        this.m_timeout = timeout;
+        this.m_setup = setup;
+        this.m_idle = new LinkedBlockingQueue<>();
+        this.m_all = new ArrayList<>(size);
+        this.m_opening = 0;
+        this.m_closed = false;
+    }
+
+    /**
+     * Borrow a connection, opening a new one if none is idle and the max is not reached yet
+     * @return Connection borrowed (to be closed to give it back to the pool)
+     * @throws SQLException
+     */
+    public PooledConnection borrow() throws SQLException {
+        PooledConnection connection = this.m_idle.poll();
+        if (connection != null)
+            return connection;
+
+        //reserve a new connection if the max is not reached yet (opened outside the lock, so the other threads are not held meanwhile)
+        boolean reserved = false;
+        synchronized (this.m_all) {
+            if (this.m_closed)
+                throw new SQLException("ConnectionPool.borrow() : pool closed");
+
+            if (this.m_all.size() + this.m_opening < this.m_size) {
+                this.m_opening++;
+                reserved = true;
+            }
+        }
+        if (reserved)
+            return this.open();
+
+        //otherwise, wait for another thread to give one back
+        try {
+            connection = this.m_idle.poll(this.m_timeout.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (connection == null)
+            throw new SQLException("ConnectionPool.borrow() : no connection available after " + this.m_timeout.toMillis() + " ms");
+
+        return connection;
+    }
+
+    /**
+     * Open the connection reserved by borrow()
+     * @return Connection opened
+     * @throws SQLException
+     */
+    private PooledConnection open() throws SQLException {
+        Connection c = null;
+        try {
+            c = DriverManager.getConnection(this.m_url);
+            this.m_setup.apply(c);
+        }
+        catch (SQLException | RuntimeException e) {
+            //give the reservation back, so another thread can try again
+            synchronized (this.m_all) {
+                this.m_opening--;
+            }
+            if (c != null)
+                c.close();
+            throw e;
+        }
+
+        //keep the connection only if the pool has not been closed meanwhile
+        PooledConnection connection = new PooledConnection(c);
+        synchronized (this.m_all) {
+            this.m_opening--;
+            if (!this.m_closed) {
+                this.m_all.add(connection);
+                LOGGER.log(Level.FINE, "Connection " + this.m_all.size() + "/" + this.m_size + " opened");
+                return connection;
+            }
+        }
+        connection.release();
+
+        throw new SQLException("ConnectionPool.borrow() : pool closed");
+    }
+
+    /**
+     * Get the amount of connections currently opened
+     * @return Amount of connections
+     */
+    public int getOpened() {
+        synchronized (this.m_all) {
+            return this.m_all.size();
+        }
+    }
+
+    /**
+     * Close all the connections, lent or not (no connection can be borrowed afterwards)
+     */
+    @Override
+    public void close() {
+        synchronized (this.m_all) {
+            this.m_closed = true;
+            for (PooledConnection c : this.m_all)
+                c.release();
+            this.m_all.clear();
+            this.m_idle.clear();
+        }
+    }
+
+    /**
+     * Connection lent by the pool, with its own cache of prepared statements
+     */
+    public final class PooledConnection implements AutoCloseable {
+        private final Connection m_connection;
+        private final HashMap<String, PreparedStatement> m_statements;
+
+        /**
+         * Wrap a new connection
+         * @param connection Connection opened
+         */
+        private PooledConnection(Connection connection) {
+            this.m_connection = connection;
+            this.m_statements = new HashMap<>();
+        }
+
+        /**
+         * Get the statement prepared for a query, preparing it on first use
+         * @param query SQL query
+         * @return Prepared statement (only to be used until the connection is given back)
+         * @throws SQLException
+         */
+        public PreparedStatement prepare(String query) throws SQLException {
+            PreparedStatement statement = this.m_statements.get(query);
+            if (statement == null) {
+                statement = this.m_connection.prepareStatement(query);
+                this.m_statements.put(query, statement);
+            }
+
+            return statement;
+        }
+
+        /**
+         * Give the connection back to the pool
+         */
+        @Override
+        public void close() {
+            synchronized (ConnectionPool.this.m_all) {
+                if (!ConnectionPool.this.m_closed) {
+                    ConnectionPool.this.m_idle.offer(this);
+                    return;
+                }
+            }
+            this.release();
+        }
+
+        /**
+         * Close the cached statements and the connection itself
+         */
+        private void release() {
+            try {
+                for (PreparedStatement s : this.m_statements.values())
+                    s.close();
+                this.m_statements.clear();
+                this.m_connection.close();
+            }
+            catch (SQLException e) {
+                LOGGER.log(Level.SEVERE, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,58 +1,132 @@
 /****************************************************************************************************/
 /*  Class DBSQLite                                                                                  */
-/*  Allows SQLite DB manipulations (for now just addition)                                          */
+/*  Implements iGameStorage                                                                         */
+/*  Allows SQLite DB manipulations (games addition, and paged selection of the games saved)         */
+/*  Statistics of each player are aggregated in the PlayerStats table, updated in the same          */
+/*      transaction as the games, so a leaderboard only reads one row per player                    */
+/*  The moves of each game are kept in a BLOB in the GameMoves table, alongside its Game row         */
+/*  Thread-safe : games are saved through the writer queue, and reads borrow a connection from a    */
+/*      small pool (each one caching its prepared statements)                                       */
+/*  Games saved are queued and written by a background thread, in batched transactions on a         */
+/*      connection of its own, so the game loops never wait for the disk                            */
+/*  The database is created on first connection, and journaled in WAL mode so the scores can be     */
+/*      read while games are written                                                                */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 12/06/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 
 package com.gilleshenrard.Awele.Models;
 
-import com.gilleshenrard.Awele.App;
-
+import java.security.InvalidParameterException;
 import java.sql.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
-public class DBSQLite {
+public class DBSQLite implements iGameStorage {
+    private final static Logger LOGGER = Logger.getLogger(DBSQLite.class.getName());
+    private final static int CACHE_SIZE_KB = 16384;
+    private final static int BUSY_TIMEOUT_MS = 5000;
+    private final static int READ_CONNECTIONS = 4;
+    private final static DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final static GameRecord STOP = new GameRecord(LocalDateTime.MIN, LocalTime.MIN, "", 0, 0);     //stops the writer
+    //keyset pagination : most recent games first, one page starting after the last game of the previous one,
+    //  so each page costs the same whatever its position
+    private final static String SELECT_GAMES = "SELECT rowid, " + DBFields.TIME.toString() + ", " + DBFields.CLOCK.toString() + ", " + DBFields.WINNER.toString() + ", " + DBFields.PLAYER1.toString() + ", " + DBFields.PLAYER2.toString() +
+                                                " FROM Game WHERE rowid < ? ORDER BY rowid DESC LIMIT ?;";
+    private final static String SELECT_LEADERBOARD = "SELECT name, wins, losses, seeds, duration FROM PlayerStats ORDER BY wins DESC, losses ASC LIMIT ?;";
+    private final static String SELECT_PLAYER = "SELECT name, wins, losses, seeds, duration FROM PlayerStats WHERE name = ?;";
+    private final static String SELECT_MOVES = "SELECT moves FROM GameMoves WHERE gameID = ?;";
+    private final static GameRecord FLUSH = new GameRecord(LocalDateTime.MIN, LocalTime.MIN, "", 0, 0);    //makes the writer write its batch now
     private String m_path;
-    private Connection m_connection;
+    private volatile ConnectionPool m_readPool;
+    private Connection m_writeConnection;
     private PreparedStatement m_saveStatement;
-    private PreparedStatement m_selectStatement;
-    private ResultSet m_gamesResultSet;
-    private boolean m_rowsremaining;
+    private PreparedStatement m_statsStatement;
+    private PreparedStatement m_movesStatement;
+    private long m_lastID;
+    private LinkedBlockingQueue<GameRecord> m_pending;
+    private volatile Thread m_writer;
+    private volatile boolean m_closing;
+    private volatile int m_batchSize;
+    private volatile long m_flushInterval;
+    private final AtomicLong m_submitted;
+    private long m_written;
+    private final ReentrantLock m_flushLock;
+    private final Condition m_flushed;
 
     /**
      * Create a new SQLite DB manipulation object
      */
     public DBSQLite() {
         this.m_path = null;
-        this.m_connection = null;
+        this.m_readPool = null;
+        this.m_writeConnection = null;
         this.m_saveStatement = null;
-        this.m_selectStatement = null;
-        this.m_gamesResultSet = null;
-        this.m_rowsremaining = false;
+        this.m_statsStatement = null;
+        this.m_movesStatement = null;
+        this.m_lastID = 0;
+        this.m_pending = new LinkedBlockingQueue<>();
+        this.m_writer = null;
+        this.m_closing = false;
+        this.m_batchSize = 256;
+        this.m_flushInterval = TimeUnit.SECONDS.toNanos(1);
+        this.m_submitted = new AtomicLong(0);
+        this.m_written = 0;
+        this.m_flushLock = new ReentrantLock();
+        this.m_flushed = this.m_flushLock.newCondition();
     }
 
     /**
-     * Negociate the connection with the database
+     * Negociate the connection with the database, and start the background writer
      */
+    @Override
     public void connect() {
         try {
-            //get the connection to the SQLite database
+            //get the connection of the writer to the SQLite database
             Class.forName("org.sqlite.JDBC");
-            this.m_connection = DriverManager.getConnection("jdbc:sqlite:" + this.m_path);
-            Logger.getLogger(App.class.getName()).log(Level.FINE, "Database " + this.m_path + " successfully connected");
+            this.m_writeConnection = DriverManager.getConnection("jdbc:sqlite:" + this.m_path);
+            LOGGER.log(Level.FINE, "Database " + this.m_path + " successfully connected");
+
+            //the pragmas must be set outside of any transaction
+            this.setupPragmas(this.m_writeConnection);
+            this.m_writeConnection.setAutoCommit(false);
 
+            this.setupSchema();
             this.setupStatements();
+
+            //the ids of the games are assigned by the writer, so their moves can be inserted in the same batch
+            try (Statement statement = this.m_writeConnection.createStatement(); ResultSet rows = statement.executeQuery("SELECT max(id) FROM Game;")) {
+                this.m_lastID = (rows.next() ? rows.getLong(1) : 0);
+            }
+
+            //the connections to read are opened on demand (after the schema exists, so WAL mode is already set)
+            this.m_readPool = new ConnectionPool("jdbc:sqlite:" + this.m_path, READ_CONNECTIONS, Duration.ofMillis(BUSY_TIMEOUT_MS), this::setupPragmas);
+
+            //start the background writer
+            this.m_closing = false;
+            this.m_writer = new Thread(this::writeLoop, "DBSQLite writer");
+            this.m_writer.setDaemon(true);
+            this.m_writer.start();
         }
         catch (ClassNotFoundException e) {
-            Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+            LOGGER.log(Level.SEVERE, e.getMessage());
             e.printStackTrace();
         }
         catch (SQLException e) {
-            Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+            LOGGER.log(Level.SEVERE, e.getMessage());
             e.printStackTrace();
         }
     }
@@ -61,123 +135,460 @@ public class DBSQLite {
      * Set the path to the DB file
      * @param path Path to the DB file
      */
+    @Override
     public void setPath(String path) {
         this.m_path = path;
     }
 
     /**
-     * Create the prepared statements
+     * Set the max amount of games written in a single transaction
+     * @param size Batch size
+     * @throws InvalidParameterException
+     */
+    public void setBatchSize(int size) throws InvalidParameterException {
+        if (size <= 0)
+            throw new InvalidParameterException("DBSQLite.setBatchSize() : negative or null batch size (" + size + ")");
+
+        this.m_batchSize = size;
+    }
+
+    /**
+     * Set the max time a game waits in the queue before being written (if the batch is not full before)
+     * @param interval Flush interval
+     * @throws InvalidParameterException
+     */
+    public void setFlushInterval(Duration interval) throws InvalidParameterException {
+        if (interval == null || interval.isNegative() || interval.isZero())
+            throw new InvalidParameterException("DBSQLite.setFlushInterval() : invalid flush interval (" + interval + ")");
+
+        this.m_flushInterval = interval.toNanos();
+    }
+
+    /**
+     * Tune a connection : WAL journal (readers and writer do not block each other), syncs only at
+     *      checkpoints (a power loss may lose the last transactions, never corrupt the DB), bigger page cache
+     * @param connection Connection to tune
+     * @throws SQLException
+     */
+    private void setupPragmas(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL;");
+            statement.execute("PRAGMA synchronous=NORMAL;");
+            statement.execute("PRAGMA cache_size=-" + CACHE_SIZE_KB + ";");
+            statement.execute("PRAGMA temp_store=MEMORY;");
+            statement.execute("PRAGMA busy_timeout=" + BUSY_TIMEOUT_MS + ";");
+        }
+        LOGGER.log(Level.FINE, "Connection pragmas set");
+    }
+
+    /**
+     * Create the tables and their indexes if they do not exist yet
+     * @throws SQLException
+     */
+    private void setupSchema() throws SQLException {
+        try (Statement statement = this.m_writeConnection.createStatement()) {
+            //id, startTime, duration, winner, seedsPlayer1, seedsPlayer2
+            statement.execute("CREATE TABLE IF NOT EXISTS Game (" +
+                                "id INTEGER PRIMARY KEY, " +
+                                DBFields.TIME.toString() + " TEXT NOT NULL, " +
+                                DBFields.CLOCK.toString() + " TEXT NOT NULL, " +
+                                DBFields.WINNER.toString() + " TEXT NOT NULL, " +
+                                DBFields.PLAYER1.toString() + " INTEGER NOT NULL, " +
+                                DBFields.PLAYER2.toString() + " INTEGER NOT NULL);");
+            statement.execute("CREATE INDEX IF NOT EXISTS Game_" + DBFields.TIME.toString() + " ON Game (" + DBFields.TIME.toString() + ");");
+            statement.execute("CREATE INDEX IF NOT EXISTS Game_" + DBFields.WINNER.toString() + " ON Game (" + DBFields.WINNER.toString() + ");");
+
+            //name, wins, losses, seeds (total stored), duration (total played, in seconds)
+            statement.execute("CREATE TABLE IF NOT EXISTS PlayerStats (" +
+                                "name TEXT PRIMARY KEY, " +
+                                "wins INTEGER NOT NULL, " +
+                                "losses INTEGER NOT NULL, " +
+                                "seeds INTEGER NOT NULL, " +
+                                "duration INTEGER NOT NULL);");
+            statement.execute("CREATE INDEX IF NOT EXISTS PlayerStats_wins ON PlayerStats (wins);");
+
+            //gameID (id of the Game row), moves (serialised MoveLog)
+            statement.execute("CREATE TABLE IF NOT EXISTS GameMoves (" +
+                                "gameID INTEGER PRIMARY KEY REFERENCES Game (id), " +
+                                "moves BLOB NOT NULL);");
+        }
+        this.m_writeConnection.commit();
+        LOGGER.log(Level.FINE, "Database schema checked");
+    }
+
+    /**
+     * Create the prepared statements of the writer
      * @throws SQLException
      */
     private void setupStatements() throws SQLException {
-        //create the "save game" prepared statement
-        //startTime, duration, winner, seedsPlayer1, seedsPlayer2
-        String saveQuery = "INSERT INTO Game (" + DBFields.TIME.toString() + ", " + DBFields.CLOCK.toString() + ", " + DBFields.WINNER.toString() + ", " + DBFields.PLAYER1.toString() + ", " + DBFields.PLAYER2.toString() + ")" +
-                            "VALUES (?,?,?,?,?);";
-        this.m_saveStatement = this.m_connection.prepareStatement(saveQuery);
-        Logger.getLogger(App.class.getName()).log(Level.FINE, "'Save game' prepared statement created");
+        //create the "save game" prepared statement, used by the writer only
+        //id, startTime, duration, winner, seedsPlayer1, seedsPlayer2
+        String saveQuery = "INSERT INTO Game (id, " + DBFields.TIME.toString() + ", " + DBFields.CLOCK.toString() + ", " + DBFields.WINNER.toString() + ", " + DBFields.PLAYER1.toString() + ", " + DBFields.PLAYER2.toString() + ")" +
+                            "VALUES (?,?,?,?,?,?);";
+        this.m_saveStatement = this.m_writeConnection.prepareStatement(saveQuery);
+        LOGGER.log(Level.FINE, "'Save game' prepared statement created");
+
+        //create the "update statistics" prepared statement, adding the values of a game to the totals of a player
+        //name, wins, losses, seeds, duration
+        String statsQuery = "INSERT INTO PlayerStats (name, wins, losses, seeds, duration) VALUES (?,?,?,?,?) " +
+                            "ON CONFLICT (name) DO UPDATE SET wins = wins + excluded.wins, losses = losses + excluded.losses, " +
+                            "seeds = seeds + excluded.seeds, duration = duration + excluded.duration;";
+        this.m_statsStatement = this.m_writeConnection.prepareStatement(statsQuery);
+        LOGGER.log(Level.FINE, "'Update statistics' prepared statement created");
 
-        //create the "select scores" prepared statement
-        String SelectQuery = "SELECT * FROM Game;";
-        this.m_selectStatement = this.m_connection.prepareStatement(SelectQuery);
-        Logger.getLogger(App.class.getName()).log(Level.FINE, "'Select scores' prepared statement created");
+        //create the "save moves" prepared statement, attached to the id of its Game row
+        //gameID, moves
+        String movesQuery = "INSERT INTO GameMoves (gameID, moves) VALUES (?,?);";
+        this.m_movesStatement = this.m_writeConnection.prepareStatement(movesQuery);
+        LOGGER.log(Level.FINE, "'Save moves' prepared statement created");
     }
 
     /**
-     * Closte the current DB connection
+     * Write the games still queued, then close the current DB connections
      */
+    @Override
     public void close() {
+        if (this.m_readPool == null)
+            return;
+
+        //let the writer empty the queue, then stop
+        this.m_closing = true;
+        this.m_pending.offer(STOP);
+        try {
+            this.m_writer.join();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
         try {
+            this.m_readPool.close();
+            this.m_readPool = null;
             this.m_saveStatement.close();
-            this.m_selectStatement.close();
-            this.m_connection.close();
-            Logger.getLogger(App.class.getName()).log(Level.FINE, "Database closed");
+            this.m_statsStatement.close();
+            this.m_movesStatement.close();
+            this.m_writeConnection.close();
+            LOGGER.log(Level.FINE, "Database closed");
         } catch (SQLException e) {
-            Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+            LOGGER.log(Level.SEVERE, e.getMessage());
         }
     }
 
     /**
-     * Save the current game in the DB
-     * @param winner Name of the winner
+     * Queue a game to be saved in the DB (never waits for the disk)
+     * @param game Game to save
+     * @param winner ID of the winner
      */
-    public void saveGame(int winner) {
+    @Override
+    public void saveGame(Game game, int winner) {
+        //the writer does not exist if the connection failed
+        if (this.m_writer == null || this.m_closing) {
+            LOGGER.log(Level.SEVERE, "Game not saved : database not connected");
+            return;
+        }
+
+        //take a snapshot of the game, as it may be reset before being written
+        this.m_submitted.incrementAndGet();
+        this.m_pending.offer(new GameRecord(game, winner));
+        LOGGER.log(Level.FINE, "Current game queued to be saved in the DB");
+    }
+
+    /**
+     * Wait until all the games queued so far are written in the DB
+     */
+    @Override
+    public void flush() {
+        if (this.m_writer == null)
+            return;
+
+        //no monitor is held while waiting, as the game loops calling this may run on virtual threads
+        this.m_flushLock.lock();
         try {
-            //format the game start time to a string 'yyyy-MM-dd HH:mm:ss'
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            String formatDateTime = Game.getInstance().getTime().format(formatter);
-
-            //fill up the prepared statement parameters
-            //startTime, duration, winner, seedsPlayer1, seedsPlayer2
-            this.m_saveStatement.setString(1, formatDateTime);
-            this.m_saveStatement.setString(2, Game.getInstance().getClock().toString());
-            this.m_saveStatement.setString(3, Game.getInstance().getName(winner));
-            this.m_saveStatement.setInt(4, Game.getInstance().getBoard().getStoredSeeds(1));
-            this.m_saveStatement.setInt(5, Game.getInstance().getBoard().getStoredSeeds(2));
-
-            //execute the query on the DB
-            this.m_saveStatement.execute();
-            Logger.getLogger(App.class.getName()).log(Level.INFO, "Current game saved in the DB");
+            long target = this.m_submitted.get();
+            this.m_pending.offer(FLUSH);
+            while (this.m_written < target && this.m_writer.isAlive())
+                this.m_flushed.await(100, TimeUnit.MILLISECONDS);
         }
-        catch (SQLException e) {
-            Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        finally {
+            this.m_flushLock.unlock();
+        }
+    }
+
+    /**
+     * Gather the games queued in batches, and write each batch in a transaction (background writer thread)
+     */
+    private void writeLoop() {
+        List<GameRecord> batch = new ArrayList<>();
+        boolean stop = false;
+
+        while (!stop) {
+            try {
+                //wait for a first game, then gather others until the batch is full, the flush interval is over,
+                //  or a flush is requested
+                GameRecord next = this.m_pending.take();
+                long deadline = System.nanoTime() + this.m_flushInterval;
+                while (next != null && next != FLUSH) {
+                    if (next == STOP) {
+                        stop = true;
+                        break;
+                    }
+
+                    batch.add(next);
+                    long left = deadline - System.nanoTime();
+                    if (batch.size() >= this.m_batchSize || left <= 0)
+                        break;
+                    next = this.m_pending.poll(left, TimeUnit.NANOSECONDS);
+                }
+            }
+            catch (InterruptedException e) {
+                LOGGER.log(Level.WARNING, "DB writer interrupted");
+                stop = true;
+            }
+
+            //when stopping, also write the games queued concurrently
+            if (stop) {
+                this.m_pending.drainTo(batch);
+                batch.removeIf(r -> r == STOP || r == FLUSH);
+            }
+            this.writeBatch(batch);
+            batch.clear();
         }
     }
 
     /**
-     * Fill the local Result Set with all the games saved in the DB
+     * Write a batch of games in a single transaction
+     * @param batch Games to write
      */
-    public void selectGames() {
+    private void writeBatch(List<GameRecord> batch) {
+        if (batch.isEmpty())
+            return;
+
+        long firstID = this.m_lastID;
         try {
-            this.m_gamesResultSet = this.m_selectStatement.executeQuery();
+            //give each game the next id, and attach its moves to it
+            //id, startTime, duration, winner, seedsPlayer1, seedsPlayer2
+            for (GameRecord r : batch) {
+                long gameID = ++this.m_lastID;
+                this.m_saveStatement.setLong(1, gameID);
+                this.m_saveStatement.setString(2, r.getTime().format(TIME_FORMAT));
+                this.m_saveStatement.setString(3, r.getClock().toString());
+                this.m_saveStatement.setString(4, r.getWinner());
+                this.m_saveStatement.setInt(5, r.getStoredSeeds(1));
+                this.m_saveStatement.setInt(6, r.getStoredSeeds(2));
+                this.m_saveStatement.addBatch();
+
+                byte[] moves = r.getMoves();
+                if (moves != null) {
+                    this.m_movesStatement.setLong(1, gameID);
+                    this.m_movesStatement.setBytes(2, moves);
+                    this.m_movesStatement.addBatch();
+                }
+
+                //add the game to the statistics of both players (unknown if the record does not hold their names)
+                if (r.getWinnerID() != 0) {
+                    for (int ID = 1; ID <= 2; ID++) {
+                        this.m_statsStatement.setString(1, r.getName(ID));
+                        this.m_statsStatement.setInt(2, (ID == r.getWinnerID() ? 1 : 0));
+                        this.m_statsStatement.setInt(3, (ID == r.getWinnerID() ? 0 : 1));
+                        this.m_statsStatement.setInt(4, r.getStoredSeeds(ID));
+                        this.m_statsStatement.setInt(5, r.getClock().toSecondOfDay());
+                        this.m_statsStatement.addBatch();
+                    }
+                }
+            }
+
+            //execute all the inserts (the games before the moves referencing them), and commit the whole batch
+            //  in one transaction (one sync to the disk)
+            this.m_saveStatement.executeBatch();
+            this.m_movesStatement.executeBatch();
+            this.m_statsStatement.executeBatch();
+            this.m_writeConnection.commit();
+            LOGGER.log(Level.INFO, batch.size() + " games saved in the DB");
         }
         catch (SQLException e) {
-            Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+            LOGGER.log(Level.SEVERE, e.getMessage());
+            //the ids of the games rolled back are given again
+            this.m_lastID = firstID;
+            try {
+                this.m_saveStatement.clearBatch();
+                this.m_movesStatement.clearBatch();
+                this.m_statsStatement.clearBatch();
+                this.m_writeConnection.rollback();
+            }
+            catch (SQLException ex) {
+                LOGGER.log(Level.SEVERE, ex.getMessage());
+            }
+        }
+
+        //the games are accounted as written even if lost, so no flush waits forever
+        this.m_flushLock.lock();
+        try {
+            this.m_written += batch.size();
+            this.m_flushed.signalAll();
+        }
+        finally {
+            this.m_flushLock.unlock();
         }
     }
 
     /**
-     * Select the next row in the database
-     * @return true if row has been selected, false if no more rows
+     * Select a page of the games saved in the DB, the most recent first
+     * @param beforeID ID of the last game of the previous page (Long.MAX_VALUE for the first page)
+     * @param limit Max amount of games in the page
+     * @return Games of the page (empty if no more games)
+     * @throws InvalidParameterException
      */
-    public boolean selectNext() {
-        try {
-            this.m_rowsremaining = this.m_gamesResultSet.next();
+    @Override
+    public List<GameRecord> selectGames(long beforeID, int limit) throws InvalidParameterException {
+        if (limit <= 0)
+            throw new InvalidParameterException("DBSQLite.selectGames() : negative or null limit (" + limit + ")");
+
+        List<GameRecord> games = new ArrayList<>(limit);
+        ConnectionPool pool = this.m_readPool;
+        if (pool == null) {
+            LOGGER.log(Level.SEVERE, "Games not selected : database not connected");
+            return games;
+        }
+
+        //make sure the games just finished are listed in the first page
+        if (beforeID == Long.MAX_VALUE)
+            this.flush();
+
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            PreparedStatement statement = connection.prepare(SELECT_GAMES);
+            statement.setLong(1, beforeID);
+            statement.setInt(2, limit);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    games.add(new GameRecord(rows.getLong(1),
+                                            LocalDateTime.parse(rows.getString(2), TIME_FORMAT),
+                                            LocalTime.parse(rows.getString(3)),
+                                            rows.getString(4),
+                                            rows.getInt(5),
+                                            rows.getInt(6)));
+                }
+            }
+        }
+        catch (SQLException | DateTimeParseException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage());
+        }
+
+        return games;
+    }
+
+    /**
+     * Select the statistics of the best players (the most wins first, then the fewest losses)
+     * @param limit Max amount of players
+     * @return Statistics of the players (empty if none)
+     * @throws InvalidParameterException
+     */
+    @Override
+    public List<PlayerStats> selectLeaderboard(int limit) throws InvalidParameterException {
+        if (limit <= 0)
+            throw new InvalidParameterException("DBSQLite.selectLeaderboard() : negative or null limit (" + limit + ")");
+
+        List<PlayerStats> players = new ArrayList<>();
+        ConnectionPool pool = this.m_readPool;
+        if (pool == null) {
+            LOGGER.log(Level.SEVERE, "Leaderboard not selected : database not connected");
+            return players;
+        }
+
+        //make sure the games just finished are accounted
+        this.flush();
+
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            PreparedStatement statement = connection.prepare(SELECT_LEADERBOARD);
+            statement.setInt(1, limit);
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next())
+                    players.add(this.readStats(rows));
+            }
         }
         catch (SQLException e) {
-            Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+            LOGGER.log(Level.SEVERE, e.getMessage());
         }
 
-        return this.m_rowsremaining;
+        return players;
     }
 
     /**
-     * Get the value of the current database row at the column specified
-     * @param column Column from which get the value
-     * @return Value of the field located in the current database row and the column specified
+     * Select the statistics of a player
+     * @param name Name of the player
+     * @return Statistics of the player, or null if the player never played (or the DB is not connected)
+     * @throws NullPointerException
      */
-    public String getField(DBFields column) {
-        if (this.m_rowsremaining) {
-            try {
-                switch (column) {
-                    case TIME:
-                    case CLOCK:
-                    case WINNER:
-                        return this.m_gamesResultSet.getString(column.toString());
-
-                    case PLAYER1:
-                    case PLAYER2:
-                        return Integer.toString(this.m_gamesResultSet.getInt(column.toString()));
-
-                    default:
-                        throw new SQLException("Invalid database column name ('" + column.toString() + "')");
-                }
+    @Override
+    public PlayerStats selectPlayerStats(String name) throws NullPointerException {
+        if (name == null)
+            throw new NullPointerException("DBSQLite.selectPlayerStats() : NULL instance of name");
+
+        ConnectionPool pool = this.m_readPool;
+        if (pool == null) {
+            LOGGER.log(Level.SEVERE, "Player statistics not selected : database not connected");
+            return null;
+        }
+
+        //make sure the games just finished are accounted
+        this.flush();
+
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            PreparedStatement statement = connection.prepare(SELECT_PLAYER);
+            statement.setString(1, name);
+            try (ResultSet rows = statement.executeQuery()) {
+                if (rows.next())
+                    return this.readStats(rows);
             }
-            catch (SQLException e) {
-                Logger.getLogger(App.class.getName()).log(Level.SEVERE, e.getMessage());
+        }
+        catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage());
+        }
+
+        return null;
+    }
+
+    /**
+     * Select the moves of a game
+     * @param ID ID of the game
+     * @return Moves of the game, or null if not recorded (or the DB is not connected)
+     */
+    @Override
+    public MoveLog selectMoves(long ID) {
+        ConnectionPool pool = this.m_readPool;
+        if (pool == null) {
+            LOGGER.log(Level.SEVERE, "Moves not selected : database not connected");
+            return null;
+        }
+
+        try (ConnectionPool.PooledConnection connection = pool.borrow()) {
+            PreparedStatement statement = connection.prepare(SELECT_MOVES);
+            statement.setLong(1, ID);
+            try (ResultSet rows = statement.executeQuery()) {
+                if (rows.next())
+                    return MoveLog.fromBytes(rows.getBytes(1));
             }
         }
+        catch (SQLException | InvalidParameterException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage());
+        }
 
         return null;
     }
+
+    /**
+     * Read the statistics of a player in the current row of a result set
+     * @param rows Result set positioned on a row (name, wins, losses, seeds, duration)
+     * @return Statistics of the player
+     * @throws SQLException
+     */
+    private PlayerStats readStats(ResultSet rows) throws SQLException {
+        return new PlayerStats(rows.getString(1),
+                                rows.getInt(2),
+                                rows.getInt(3),
+                                rows.getLong(4),
+                                Duration.ofSeconds(rows.getLong(5)));
+    }
 }
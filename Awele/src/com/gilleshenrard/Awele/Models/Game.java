@@ -1,10 +1,11 @@
 /****************************************************************************************************/
 /*  Class Game                                                                                      */
 /*  Encloses the game manipulations                                                                 */
-/*  The game consists of a Board and two players. It is a Singleton, as only one instance           */
-/*      is playable                                                                                 */
+/*  The game consists of a Board and two players. Each game session has its own instance, owned by  */
+/*      its game controller, so several games can be played in the same process                     */
+/*  The moves played are recorded, so the game can be saved and replayed move by move               */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 11/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Models;
 
@@ -20,19 +21,19 @@ public class Game {
     private LocalDateTime m_time;
     private LocalTime m_startClock;
     private LocalTime m_finalClock;
-    private static Game m_instance = null;
+    private MoveLog m_moves;
 
     /**
      * Create a new Game
      */
-    private Game() {
+    public Game() {
         this.m_board = new Board();
         this.m_player = new Player[2];
         this.m_player[0] = null;
         this.m_player[1] = null;
         this.m_time = null;
         this.m_startClock = null;
-        this.m_instance = null;
+        this.m_moves = new MoveLog();
 
         //set the final clock to its initial value
         this.resetClock();
@@ -49,18 +50,6 @@ public class Game {
             throw new InvalidParameterException(msg + ": invalid ID provided (value : " + ID + ")");
     }
 
-    /**
-     * Create or return this instance of Game (DP singleton)
-     * @return This instance of Game
-     */
-    public static synchronized Game getInstance(){
-        //if instance does not exist, create it
-        if (Game.m_instance == null)
-            Game.m_instance = new Game();
-
-        return Game.m_instance;
-    }
-
     /**
      * Get the board attached to the current game
      * @return Current board
@@ -103,11 +92,11 @@ public class Game {
      * @throws NullPointerException
      */
     public boolean isPlayerAI(int ID) throws InvalidParameterException, NullPointerException {
-        Game.getInstance().validateID(ID, "Game.isPlayerAI()");
-        if (Game.getInstance().getPlayer(ID) == null)
+        Game.validateID(ID, "Game.isPlayerAI()");
+        if (this.getPlayer(ID) == null)
             throw new NullPointerException("Game.isPlayerAI() : Player " + ID + " not instantiated");
 
-        return Game.getInstance().getPlayer(ID).isPlayerAI();
+        return this.getPlayer(ID).isPlayerAI();
     }
 
     /**
@@ -119,10 +108,10 @@ public class Game {
      */
     public String getName(int ID) throws InvalidParameterException, NullPointerException{
         Game.validateID(ID, "Game.getName()");
-        if(Game.getInstance().getPlayer(ID) == null)
+        if(this.getPlayer(ID) == null)
             throw new NullPointerException("Game.getName() : Player " + ID + " not instantiated");
 
-            return Game.getInstance().getPlayer(ID).getName();
+        return this.getPlayer(ID).getName();
     }
 
     /**
@@ -134,10 +123,10 @@ public class Game {
      */
     public void setName(int ID, String name) throws InvalidParameterException, NullPointerException {
         Game.validateID(ID, "Game.setName()");
-        if(Game.getInstance().getPlayer(ID) == null)
+        if(this.getPlayer(ID) == null)
             throw new NullPointerException("Game.setName() : Player " + ID + " not instantiated");
 
-        Game.getInstance().getPlayer(ID).setName(name);
+        this.getPlayer(ID).setName(name);
     }
 
     /**
@@ -149,12 +138,12 @@ public class Game {
      */
     public void setBehaviour(int ID, Selectable behaviour) throws InvalidParameterException, NullPointerException {
         Game.validateID(ID, "Game.setBehaviour()");
-        if(Game.getInstance().getPlayer(ID) == null)
+        if(this.getPlayer(ID) == null)
             throw new NullPointerException("Game.setBehaviour() : Player " + ID + " not instantiated");
         if(behaviour == null)
             throw new NullPointerException("Game.setBehaviour() : NULL instance of Selectable");
 
-        Game.getInstance().getPlayer(ID).setBehaviour(behaviour);
+        this.getPlayer(ID).setBehaviour(behaviour);
     }
 
     /**
@@ -166,10 +155,10 @@ public class Game {
      */
     public int selectSlot(int ID) throws InvalidParameterException, NullPointerException{
         Game.validateID(ID, "Game.selectSlot()");
-        if (Game.getInstance().getPlayer(ID) == null)
+        if (this.getPlayer(ID) == null)
             throw new NullPointerException("Game.selectSlot() : Player " + ID + " not instantiated");
 
-        return Game.getInstance().getPlayer(ID).selectSlot();
+        return this.getPlayer(ID).selectSlot();
     }
 
     /**
@@ -177,6 +166,15 @@ public class Game {
      */
     public void reset(){
         this.m_board.reset();
+        this.m_moves.clear();
+    }
+
+    /**
+     * Get the moves played since the beginning of the game
+     * @return Moves played
+     */
+    public MoveLog getMoves() {
+        return this.m_moves;
     }
 
     /**
@@ -0,0 +1,195 @@
+/****************************************************************************************************/
+/*  Class GameRecord                                                                                */
+/*  Immutable result of a finished game, as saved in the database (start time, duration, name of   */
+/*      the winner, seeds stored by each player)                                                    */
+/*  Taken as a snapshot of the game when it ends, so it can be written later by another thread,     */
+/*      or read back from the database along with its ID                                            */
+/*  The names of both players are known in a snapshot or in a binary log record (the Game table     */
+/*      only keeps the winner), and are used to update the statistics of each player                */
+/*  A snapshot also holds the moves played, serialised (see MoveLog)                                */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.security.InvalidParameterException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+public final class GameRecord {
+    private final long m_id;
+    private final LocalDateTime m_time;
+    private final LocalTime m_clock;
+    private final String m_winner;
+    private final String m_name1;
+    private final String m_name2;
+    private final int m_winnerID;
+    private final byte[] m_moves;
+    private final int m_seeds1;
+    private final int m_seeds2;
+
+    /**
+     * Create a new game record, not saved yet
+     * @param time Date and time of the beginning of the game
+     * @param clock Duration of the game
+     * @param winner Name of the winner
+     * @param seeds1 Seeds stored by the player 1
+     * @param seeds2 Seeds stored by the player 2
+     * @throws NullPointerException
+     */
+    public GameRecord(LocalDateTime time, LocalTime clock, String winner, int seeds1, int seeds2) throws NullPointerException {
+        this(0, time, clock, winner, seeds1, seeds2);
+    }
+
+    /**
+     * Create a new game record
+     * @param ID ID of the game in the database (0 if not saved yet)
+     * @param time Date and time of the beginning of the game
+     * @param clock Duration of the game
+     * @param winner Name of the winner
+     * @param seeds1 Seeds stored by the player 1
+     * @param seeds2 Seeds stored by the player 2
+     * @throws NullPointerException
+     */
+    public GameRecord(long ID, LocalDateTime time, LocalTime clock, String winner, int seeds1, int seeds2) throws NullPointerException {
+        if (time == null || clock == null || winner == null)
+            throw new NullPointerException("GameRecord() : NULL instance of time, clock or winner");
+
+        this.m_id = ID;
+        this.m_time = time;
+        this.m_clock = clock;
+        this.m_winner = winner;
+        this.m_name1 = null;
+        this.m_name2 = null;
+        this.m_winnerID = 0;
+        this.m_moves = null;
+        this.m_seeds1 = seeds1;
+        this.m_seeds2 = seeds2;
+    }
+
+    /**
+     * Create a new game record holding the names of both players
+     * @param ID ID of the game in its storage
+     * @param time Date and time of the beginning of the game
+     * @param clock Duration of the game
+     * @param name1 Name of the player 1
+     * @param name2 Name of the player 2
+     * @param winner ID of the winner
+     * @param seeds1 Seeds stored by the player 1
+     * @param seeds2 Seeds stored by the player 2
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public GameRecord(long ID, LocalDateTime time, LocalTime clock, String name1, String name2, int winner, int seeds1, int seeds2) throws NullPointerException, InvalidParameterException {
+        Game.validateID(winner, "GameRecord()");
+        if (time == null || clock == null || name1 == null || name2 == null)
+            throw new NullPointerException("GameRecord() : NULL instance of time, clock or names");
+
+        this.m_id = ID;
+        this.m_time = time;
+        this.m_clock = clock;
+        this.m_winner = (winner == 1 ? name1 : name2);
+        this.m_name1 = name1;
+        this.m_name2 = name2;
+        this.m_winnerID = winner;
+        this.m_moves = null;
+        this.m_seeds1 = seeds1;
+        this.m_seeds2 = seeds2;
+    }
+
+    /**
+     * Create a new record of a finished game
+     * @param game Game to record
+     * @param winner ID of the winner
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public GameRecord(Game game, int winner) throws NullPointerException, InvalidParameterException {
+        Game.validateID(winner, "GameRecord()");
+        if (game.getTime() == null || game.getClock() == null)
+            throw new NullPointerException("GameRecord() : NULL instance of time or clock");
+
+        this.m_id = 0;
+        this.m_time = game.getTime();
+        this.m_clock = game.getClock();
+        this.m_winner = game.getName(winner);
+        this.m_name1 = game.getName(1);
+        this.m_name2 = game.getName(2);
+        this.m_winnerID = winner;
+        this.m_moves = game.getMoves().toBytes();
+        this.m_seeds1 = game.getBoard().getStoredSeeds(1);
+        this.m_seeds2 = game.getBoard().getStoredSeeds(2);
+    }
+
+    /**
+     * Get the ID of the game in the database
+     * @return ID (0 if not saved yet)
+     */
+    public long getID() {
+        return this.m_id;
+    }
+
+    /**
+     * Get the date and time of the beginning of the game
+     * @return Date and time
+     */
+    public LocalDateTime getTime() {
+        return this.m_time;
+    }
+
+    /**
+     * Get the duration of the game
+     * @return Duration
+     */
+    public LocalTime getClock() {
+        return this.m_clock;
+    }
+
+    /**
+     * Get the name of the winner
+     * @return Name
+     */
+    public String getWinner() {
+        return this.m_winner;
+    }
+
+    /**
+     * Get the name of a player
+     * @param ID ID of the player
+     * @return Name, or null if the record has been read from the SQLite database
+     * @throws InvalidParameterException
+     */
+    public String getName(int ID) throws InvalidParameterException {
+        Game.validateID(ID, "GameRecord.getName()");
+
+        return (ID == 1 ? this.m_name1 : this.m_name2);
+    }
+
+    /**
+     * Get the ID of the winner
+     * @return ID of the winner, or 0 if the record has been read from the SQLite database
+     */
+    public int getWinnerID() {
+        return this.m_winnerID;
+    }
+
+    /**
+     * Get the moves played
+     * @return Serialised moves (see MoveLog), or null if the record has been read from a storage
+     */
+    public byte[] getMoves() {
+        return (this.m_moves == null ? null : this.m_moves.clone());
+    }
+
+    /**
+     * Get the seeds stored by a player
+     * @param ID ID of the player
+     * @return Seeds stored
+     * @throws InvalidParameterException
+     */
+    public int getStoredSeeds(int ID) throws InvalidParameterException {
+        Game.validateID(ID, "GameRecord.getStoredSeeds()");
+
+        return (ID == 1 ? this.m_seeds1 : this.m_seeds2);
+    }
+}
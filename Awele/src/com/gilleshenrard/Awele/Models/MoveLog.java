@@ -0,0 +1,211 @@
+/****************************************************************************************************/
+/*  Class MoveLog                                                                                   */
+/*  Record of all the moves of a game, in the order they have been played                           */
+/*  Each move is packed in one byte (slot played in the high nibble, seeds captured in the low      */
+/*      one), the think times being kept aside in milliseconds                                      */
+/*  Serialised as : amount of moves (varint), one byte per move, then each think time (varint), so  */
+/*      a replay only reads the moves without decoding the think times                              */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.io.ByteArrayOutputStream;
+import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.util.Arrays;
+
+public final class MoveLog {
+    private final static int INITIAL_CAPACITY = 64;
+    private byte[] m_moves;
+    private int[] m_thinkTimes;
+    private int m_size;
+
+    /**
+     * Create a new empty move log
+     */
+    public MoveLog() {
+        this.m_moves = new byte[INITIAL_CAPACITY];
+        this.m_thinkTimes = new int[INITIAL_CAPACITY];
+        this.m_size = 0;
+    }
+
+    /**
+     * Create a copy of a move log
+     * @param log Move log to copy
+     * @throws NullPointerException
+     */
+    public MoveLog(MoveLog log) throws NullPointerException {
+        if (log == null)
+            throw new NullPointerException("MoveLog() : NULL instance of MoveLog");
+
+        this.m_moves = Arrays.copyOf(log.m_moves, Math.max(log.m_size, 1));
+        this.m_thinkTimes = Arrays.copyOf(log.m_thinkTimes, Math.max(log.m_size, 1));
+        this.m_size = log.m_size;
+    }
+
+    /**
+     * Record a move
+     * @param slot Index of the slot played (0-5 for player 1, 6-11 for player 2)
+     * @param captured Amount of seeds captured (0-15)
+     * @param thinkTime Time taken by the player to select the slot
+     * @throws InvalidParameterException
+     * @throws NullPointerException
+     */
+    public void add(int slot, int captured, Duration thinkTime) throws InvalidParameterException, NullPointerException {
+        if (thinkTime == null)
+            throw new NullPointerException("MoveLog.add() : NULL instance of think time");
+        if (slot < 0 || slot >= Board.NB_SLOTS)
+            throw new InvalidParameterException("MoveLog.add() : invalid slot (" + slot + ")");
+        if (captured < 0 || captured > 15)
+            throw new InvalidParameterException("MoveLog.add() : invalid amount captured (" + captured + ")");
+
+        //grow the buffers if full
+        if (this.m_size == this.m_moves.length) {
+            this.m_moves = Arrays.copyOf(this.m_moves, this.m_size * 2);
+            this.m_thinkTimes = Arrays.copyOf(this.m_thinkTimes, this.m_size * 2);
+        }
+
+        this.m_moves[this.m_size] = (byte)(slot << 4 | captured);
+        this.m_thinkTimes[this.m_size] = (int) Math.min(Math.max(thinkTime.toMillis(), 0), Integer.MAX_VALUE);
+        this.m_size++;
+    }
+
+    /**
+     * Remove all the moves
+     */
+    public void clear() {
+        this.m_size = 0;
+    }
+
+    /**
+     * Get the amount of moves recorded
+     * @return Amount of moves
+     */
+    public int size() {
+        return this.m_size;
+    }
+
+    /**
+     * Get the slot played in a move
+     * @param index Index of the move
+     * @return Index of the slot (0-5 for player 1, 6-11 for player 2)
+     * @throws InvalidParameterException
+     */
+    public int getSlot(int index) throws InvalidParameterException {
+        this.validateIndex(index, "MoveLog.getSlot()");
+
+        return (this.m_moves[index] >> 4) & 0x0F;
+    }
+
+    /**
+     * Get the amount of seeds captured in a move
+     * @param index Index of the move
+     * @return Amount of seeds captured
+     * @throws InvalidParameterException
+     */
+    public int getCaptured(int index) throws InvalidParameterException {
+        this.validateIndex(index, "MoveLog.getCaptured()");
+
+        return this.m_moves[index] & 0x0F;
+    }
+
+    /**
+     * Get the time taken by the player to select the slot of a move
+     * @param index Index of the move
+     * @return Think time (millisecond precision)
+     * @throws InvalidParameterException
+     */
+    public Duration getThinkTime(int index) throws InvalidParameterException {
+        this.validateIndex(index, "MoveLog.getThinkTime()");
+
+        return Duration.ofMillis(this.m_thinkTimes[index]);
+    }
+
+    /**
+     * Throw an exception if the index does not match any move
+     * @param index Index of the move
+     * @param msg Name of the method in which the validation occurs
+     * @throws InvalidParameterException
+     */
+    private void validateIndex(int index, String msg) throws InvalidParameterException {
+        if (index < 0 || index >= this.m_size)
+            throw new InvalidParameterException(msg + " : invalid index (" + index + ")");
+    }
+
+    /**
+     * Serialise the moves
+     * @return Serialised moves
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(this.m_size * 3 + 5);
+        writeVarInt(out, this.m_size);
+        out.write(this.m_moves, 0, this.m_size);
+        for (int i = 0 ; i < this.m_size ; i++)
+            writeVarInt(out, this.m_thinkTimes[i]);
+
+        return out.toByteArray();
+    }
+
+    /**
+     * Deserialise moves serialised with toBytes()
+     * @param bytes Serialised moves
+     * @return Move log
+     * @throws NullPointerException
+     * @throws InvalidParameterException
+     */
+    public static MoveLog fromBytes(byte[] bytes) throws NullPointerException, InvalidParameterException {
+        if (bytes == null)
+            throw new NullPointerException("MoveLog.fromBytes() : NULL instance of bytes");
+
+        int[] position = {0};
+        int size = readVarInt(bytes, position);
+        if (size > bytes.length - position[0])
+            throw new InvalidParameterException("MoveLog.fromBytes() : truncated moves");
+
+        MoveLog log = new MoveLog();
+        log.m_moves = Arrays.copyOfRange(bytes, position[0], position[0] + Math.max(size, 1));
+        log.m_thinkTimes = new int[Math.max(size, 1)];
+        position[0] += size;
+        for (int i = 0 ; i < size ; i++)
+            log.m_thinkTimes[i] = readVarInt(bytes, position);
+        log.m_size = size;
+
+        return log;
+    }
+
+    /**
+     * Write a positive integer in as few bytes as possible (7 bits per byte, high bit set if more bytes follow)
+     * @param out Stream in which write the value
+     * @param value Value to write
+     */
+    private static void writeVarInt(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    /**
+     * Read a positive integer written with writeVarInt()
+     * @param bytes Bytes from which read the value
+     * @param position Position of the value, moved after it
+     * @return Value read
+     * @throws InvalidParameterException
+     */
+    private static int readVarInt(byte[] bytes, int[] position) throws InvalidParameterException {
+        int value = 0;
+        for (int shift = 0 ; shift < 32 ; shift += 7) {
+            if (position[0] >= bytes.length)
+                throw new InvalidParameterException("MoveLog.fromBytes() : truncated value");
+
+            byte b = bytes[position[0]++];
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+
+        throw new InvalidParameterException("MoveLog.fromBytes() : invalid value");
+    }
+}
@@ -64,7 +64,7 @@ public class Player {
     }
 
     /**
-     * Sets the way the player selects a slot
+     * Sets the way the player selects a slot (the behaviour replaced is closed)
      * @param behaviour Behaviour to adopt
      * @throws NullPointerException
      */
@@ -72,6 +72,10 @@ public class Player {
         if(behaviour == null)
             throw new NullPointerException("Player.setBehaviour() : NULL instance of behaviour");
 
+        //release the threads and tables of the previous behaviour
+        if (this.m_behaviour != null && this.m_behaviour != behaviour)
+            this.m_behaviour.close();
+
         this.m_behaviour = behaviour;
         this.getBehaviour().setID(this.getID());
     }
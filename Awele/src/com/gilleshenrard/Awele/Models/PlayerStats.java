@@ -0,0 +1,112 @@
+/****************************************************************************************************/
+/*  Class PlayerStats                                                                               */
+/*  Immutable statistics of a player, as aggregated in the database (games played, wins, losses,    */
+/*      seeds stored and time played over all its games)                                            */
+/*  Averages and rates are computed from the totals, so a leaderboard never scans the games         */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.time.Duration;
+
+public final class PlayerStats {
+    private final String m_name;
+    private final int m_wins;
+    private final int m_losses;
+    private final long m_seeds;
+    private final Duration m_duration;
+
+    /**
+     * Create new player statistics
+     * @param name Name of the player
+     * @param wins Amount of games won
+     * @param losses Amount of games lost
+     * @param seeds Total of seeds stored over all the games
+     * @param duration Total time played over all the games
+     * @throws NullPointerException
+     */
+    public PlayerStats(String name, int wins, int losses, long seeds, Duration duration) throws NullPointerException {
+        if (name == null || duration == null)
+            throw new NullPointerException("PlayerStats() : NULL instance of name or duration");
+
+        this.m_name = name;
+        this.m_wins = wins;
+        this.m_losses = losses;
+        this.m_seeds = seeds;
+        this.m_duration = duration;
+    }
+
+    /**
+     * Get the name of the player
+     * @return Name
+     */
+    public String getName() {
+        return this.m_name;
+    }
+
+    /**
+     * Get the amount of games played
+     * @return Amount of games
+     */
+    public int getGames() {
+        return this.m_wins + this.m_losses;
+    }
+
+    /**
+     * Get the amount of games won
+     * @return Amount of games won
+     */
+    public int getWins() {
+        return this.m_wins;
+    }
+
+    /**
+     * Get the amount of games lost
+     * @return Amount of games lost
+     */
+    public int getLosses() {
+        return this.m_losses;
+    }
+
+    /**
+     * Get the total of seeds stored over all the games
+     * @return Total of seeds
+     */
+    public long getSeeds() {
+        return this.m_seeds;
+    }
+
+    /**
+     * Get the ratio of games won
+     * @return Win rate (between 0 and 1), or 0 if no game played
+     */
+    public double getWinRate() {
+        return (this.getGames() == 0 ? 0.0 : (double) this.m_wins / this.getGames());
+    }
+
+    /**
+     * Get the average amount of seeds stored per game
+     * @return Average seeds, or 0 if no game played
+     */
+    public double getAverageSeeds() {
+        return (this.getGames() == 0 ? 0.0 : (double) this.m_seeds / this.getGames());
+    }
+
+    /**
+     * Get the average duration of a game
+     * @return Average duration, or zero if no game played
+     */
+    public Duration getAverageDuration() {
+        return (this.getGames() == 0 ? Duration.ZERO : this.m_duration.dividedBy(this.getGames()));
+    }
+
+    /**
+     * Get the statistics as text
+     * @return Statistics
+     */
+    @Override
+    public String toString() {
+        return this.m_name + " : " + this.m_wins + " wins, " + this.m_losses + " losses";
+    }
+}
@@ -2,12 +2,10 @@
 /*  Class Point                                                                                     */
 /*  Deals with Points coordinates manipulation (x, y)                                               */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 11/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Models;
 
-import java.util.Objects;
-
 public class Point {
     private int m_x;
     private int m_y;
@@ -97,7 +95,7 @@ public class Point {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(this.getX(), this.getY());
+        return 31 * (31 + this.m_x) + this.m_y;
     }
 
     /**
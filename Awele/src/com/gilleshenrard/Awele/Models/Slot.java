@@ -3,12 +3,11 @@
 /*  Encloses Slot manipulations                                                                     */
 /*  A slot is a Point, with additional seeds count                                                  */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 11/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Models;
 
 import java.security.InvalidParameterException;
-import java.util.Objects;
 
 public class Slot {
     private Point m_coordinates;
@@ -107,6 +106,7 @@ public class Slot {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(Objects.hash(this.getCoordinates()), this.getNbSeeds());
+        //same value as Objects.hash(Objects.hash(coordinates), seeds), without boxing
+        return 31 * (31 + (31 + this.m_coordinates.hashCode())) + this.nb_seeds;
     }
 }
@@ -0,0 +1,66 @@
+/****************************************************************************************************/
+/*  Class Zobrist                                                                                   */
+/*  Holds the random keys used to hash a board position (Zobrist hashing)                           */
+/*  One key is drawn per (slot, amount of seeds), per (player, stored seeds) and for the player 2   */
+/*      being the one to play. The keys come from a fixed seed, so hashes are the same from one     */
+/*      run to another and can be saved in files                                                    */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.util.SplittableRandom;
+
+public final class Zobrist {
+    private final static int MAX_SEEDS = 48;
+    private final static long[] CELL_KEYS;
+    private final static long SIDE_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(20200511L);
+
+        //one key per amount of seeds (0-48) for each slot, then for each store
+        CELL_KEYS = new long[Board.NB_CELLS * (MAX_SEEDS + 1)];
+        for (int i = 0 ; i < CELL_KEYS.length ; i++)
+            CELL_KEYS[i] = random.nextLong();
+
+        SIDE_KEY = random.nextLong();
+    }
+
+    /**
+     * Static class, not meant to be instantiated
+     */
+    private Zobrist() {}
+
+    /**
+     * Get the key of a cell of the packed board holding an amount of seeds
+     * @param cell Index of the cell (0-11 for the slots, 12-13 for the stores)
+     * @param nbSeeds Amount of seeds in the cell
+     * @return Key of the cell
+     */
+    public static long getCellKey(int cell, int nbSeeds) {
+        return CELL_KEYS[cell * (MAX_SEEDS + 1) + nbSeeds];
+    }
+
+    /**
+     * Get the key to combine with a board hash depending on which player is to play
+     * @param ID ID of the player to play
+     * @return 0 for the player 1, the side key for the player 2
+     */
+    public static long getSideKey(int ID) {
+        return (ID == 2 ? SIDE_KEY : 0L);
+    }
+
+    /**
+     * Compute the hash of packed board values
+     * @param cells Packed board values (see Board)
+     * @return Hash of the values
+     */
+    static long hash(byte[] cells) {
+        long hash = 0L;
+        for (int i = 0 ; i < Board.NB_CELLS ; i++)
+            hash ^= getCellKey(i, cells[i]);
+
+        return hash;
+    }
+}
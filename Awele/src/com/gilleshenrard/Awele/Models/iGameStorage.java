@@ -0,0 +1,24 @@
+/****************************************************************************************************/
+/*  Interface iGameStorage                                                                          */
+/*  Defines the base of a storage backend in which the finished games are saved, and from which     */
+/*      the scores and the statistics of the players are read                                       */
+/*  Implementations must be thread-safe, as several games may save and read at the same time        */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Models;
+
+import java.security.InvalidParameterException;
+import java.util.List;
+
+public interface iGameStorage {
+    void setPath(String path);
+    void connect();
+    void close();
+    void saveGame(Game game, int winner);
+    void flush();
+    List<GameRecord> selectGames(long beforeID, int limit) throws InvalidParameterException;
+    List<PlayerStats> selectLeaderboard(int limit) throws InvalidParameterException;
+    PlayerStats selectPlayerStats(String name) throws NullPointerException;
+    MoveLog selectMoves(long ID);
+}
@@ -0,0 +1,379 @@
+/****************************************************************************************************/
+/*  Class EndgameDatabase                                                                           */
+/*  Memory-mapped file holding the exact outcome (win, loss or draw for the player to play) of      */
+/*      every position with at most N seeds left on the board                                       */
+/*  A position is seen from the player to play (its slots first), and is indexed by the rank of     */
+/*      its slots composition among the ones with the same amount of seeds, and by its store        */
+/*      (from 24 - seeds to 24, the opponent's store being deduced from the 48 seeds)               */
+/*  The file is generated level by level (amount of seeds on the board) : captures lead to levels   */
+/*      already solved, and the other moves are solved by iterating over the level until nothing    */
+/*      changes anymore. Positions still unknown at that point can be played forever (draw)         */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+public final class EndgameDatabase {
+    private final static Logger LOGGER = Logger.getLogger(EndgameDatabase.class.getName());
+    public final static int UNKNOWN = -1;
+    public final static int DRAW = 0;
+    public final static int WIN = 1;
+    public final static int LOSS = 2;
+    public final static int MAX_SEEDS = 20;
+    private final static int MAGIC = 0x41574442;   //"AWDB"
+    private final static int HEADER_SIZE = 16;
+    private final static int BLOCK_SIZE = 1 << 14;
+    private final static long[][] BINOMIALS;
+    private final MappedByteBuffer m_values;
+    private final int m_maxSeeds;
+    private final long[] m_levelOffsets;
+
+    static {
+        //binomial coefficients used to count the compositions of the slots
+        BINOMIALS = new long[MAX_SEEDS + Board.NB_SLOTS + 1][Board.NB_SLOTS];
+        for (int n = 0 ; n < BINOMIALS.length ; n++) {
+            BINOMIALS[n][0] = 1;
+            for (int k = 1 ; k < Board.NB_SLOTS && k <= n ; k++)
+                BINOMIALS[n][k] = BINOMIALS[n - 1][k - 1] + (k < n ? BINOMIALS[n - 1][k] : 0);
+        }
+    }
+
+    /**
+     * Create a database on a mapped file
+     * @param values Mapped file (header included)
+     * @param maxSeeds Max amount of seeds on the board of the positions held
+     */
+    private EndgameDatabase(MappedByteBuffer values, int maxSeeds) {
+        this.m_values = values;
+        this.m_maxSeeds = maxSeeds;
+        this.m_levelOffsets = levelOffsets(maxSeeds);
+    }
+
+    /**
+     * Open an existing database file
+     * @param path Path to the file
+     * @return Database
+     * @throws IOException
+     */
+    public static EndgameDatabase open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer values = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int maxSeeds = values.getInt(4);
+            if (values.getInt(0) != MAGIC || maxSeeds < 0 || maxSeeds > MAX_SEEDS || channel.size() != fileSize(maxSeeds))
+                throw new IOException("EndgameDatabase.open() : " + path + " is not a valid endgame database");
+
+            return new EndgameDatabase(values, maxSeeds);
+        }
+    }
+
+    /**
+     * Solve all the positions with at most an amount of seeds on the board, and write them in a file
+     * @param path Path to the file to create (overwritten if existing)
+     * @param maxSeeds Max amount of seeds on the board
+     * @return Database generated
+     * @throws IOException
+     * @throws InvalidParameterException
+     */
+    public static EndgameDatabase generate(Path path, int maxSeeds) throws IOException, InvalidParameterException {
+        if (maxSeeds < 0 || maxSeeds > MAX_SEEDS)
+            throw new InvalidParameterException("EndgameDatabase.generate() : invalid amount of seeds (" + maxSeeds + ")");
+
+        EndgameDatabase database;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer values = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize(maxSeeds));
+            values.putInt(0, MAGIC);
+            values.putInt(4, maxSeeds);
+            database = new EndgameDatabase(values, maxSeeds);
+        }
+
+        //solve each level, the captures only leading to the levels already solved
+        for (int seeds = 0 ; seeds <= maxSeeds ; seeds++) {
+            int passes = database.solveLevel(seeds);
+            LOGGER.log(Level.INFO, "Endgame database : " + seeds + " seeds solved in " + passes + " passes");
+        }
+
+        database.m_values.force();
+        return database;
+    }
+
+    /**
+     * Get the max amount of seeds on the board of the positions held
+     * @return Max amount of seeds
+     */
+    public int getMaxSeeds() {
+        return this.m_maxSeeds;
+    }
+
+    /**
+     * Get the outcome of a position for the player to play
+     * @param board Board of the position
+     * @param ID ID of the player to play
+     * @return WIN, LOSS or DRAW, or UNKNOWN if too many seeds are left on the board
+     * @throws InvalidParameterException
+     */
+    public int probe(Board board, int ID) throws InvalidParameterException {
+        return this.probe(board, ID, new byte[Board.NB_CELLS]);
+    }
+
+    /**
+     * Get the outcome of a position for the player to play, without allocating anything (used by the searches)
+     * @param board Board of the position
+     * @param ID ID of the player to play
+     * @param cells Buffer of Board.NB_CELLS bytes in which the position is read
+     * @return WIN, LOSS or DRAW, or UNKNOWN if too many seeds are left on the board
+     * @throws InvalidParameterException
+     */
+    public int probe(Board board, int ID, byte[] cells) throws InvalidParameterException {
+        if (ID != 1 && ID != 2)
+            throw new InvalidParameterException("EndgameDatabase.probe() : Invalid ID (" + ID + ")");
+
+        int store = board.getStoredSeeds(ID);
+        int seeds = 48 - store - board.getStoredSeeds(3 - ID);
+        if (seeds > this.m_maxSeeds || store > 24 || store < 24 - seeds)
+            return UNKNOWN;
+
+        //rank the slots from the point of view of the player to play
+        board.saveState(cells, 0);
+        return this.getValue(this.index(seeds, rank(cells, (ID == 1 ? 0 : 6), seeds), store));
+    }
+
+    /**
+     * Solve all the positions with a given amount of seeds on the board (the lower amounts being solved)
+     * @param seeds Amount of seeds on the board
+     * @return Amount of passes needed
+     */
+    private int solveLevel(int seeds) {
+        long start = this.m_levelOffsets[seeds];
+        long end = this.m_levelOffsets[seeds + 1];
+        long firstBlock = start / BLOCK_SIZE;
+        int nbBlocks = (int)((end + BLOCK_SIZE - 1) / BLOCK_SIZE - firstBlock);
+        LongAdder changes = new LongAdder();
+        int passes = 0;
+
+        //blocks are aligned on whole bytes, so each thread only writes in its own bytes
+        do {
+            changes.reset();
+            IntStream.range(0, nbBlocks).parallel().forEach(b -> {
+                long from = Math.max(start, (firstBlock + b) * BLOCK_SIZE);
+                long to = Math.min(end, (firstBlock + b + 1) * BLOCK_SIZE);
+                changes.add(this.solveBlock(seeds, from, to));
+            });
+            passes++;
+        } while (changes.sum() > 0);
+
+        return passes;
+    }
+
+    /**
+     * Try to solve the positions still unknown of a range of a level
+     * @param seeds Amount of seeds on the board
+     * @param from Index of the first position of the range
+     * @param to Index following the last position of the range
+     * @return Amount of positions solved
+     */
+    private long solveBlock(int seeds, long from, long to) {
+        Board board = new Board();
+        BoardController controller = new BoardController(board);
+        MoveList moves = new MoveList();
+        byte[] cells = new byte[Board.NB_CELLS];
+        int[] slots = new int[Board.NB_SLOTS];
+        long rank = -1;
+        long solved = 0;
+
+        for (long index = from ; index < to ; index++) {
+            long relative = index - this.m_levelOffsets[seeds];
+            int store = (int)(relative % (seeds + 1)) + 24 - seeds;
+            if (rank != relative / (seeds + 1)) {
+                rank = relative / (seeds + 1);
+                unrank(rank, seeds, slots);
+            }
+
+            if (this.getValue(index) != DRAW)
+                continue;
+
+            //set the position with the player to play as player 1
+            for (int i = 0 ; i < Board.NB_SLOTS ; i++)
+                cells[i] = (byte)slots[i];
+            cells[Board.NB_SLOTS] = (byte)store;
+            cells[Board.NB_SLOTS + 1] = (byte)(48 - seeds - store);
+            board.restoreState(cells, 0);
+            controller.generateMoves(1, moves);
+
+            //win if a move captures enough or leads to a loss of the opponent, loss if no moves or all lead to its win
+            int value = (moves.size() == 0 ? LOSS : DRAW);
+            boolean allWin = true;
+            for (int m = 0 ; m < moves.size() && value == DRAW ; m++) {
+                int captured = moves.getCaptured(m);
+                if (store + captured > 24) {
+                    value = WIN;
+                    break;
+                }
+
+                //read the child from the point of view of the opponent
+                controller.makeMove(moves, m);
+                board.saveState(cells, 0);
+                controller.unmakeMove();
+
+                int childSeeds = seeds - captured;
+                int childValue = this.getValue(this.index(childSeeds, rank(cells, 6, childSeeds), 48 - seeds - store));
+                if (childValue == LOSS)
+                    value = WIN;
+                else if (childValue != WIN)
+                    allWin = false;
+            }
+            if (value == DRAW && allWin)
+                value = LOSS;
+
+            if (value != DRAW) {
+                this.setValue(index, value);
+                solved++;
+            }
+        }
+
+        return solved;
+    }
+
+    /**
+     * Get the index of a position in the file
+     * @param seeds Amount of seeds on the board
+     * @param rank Rank of the slots composition
+     * @param store Seeds stored by the player to play
+     * @return Index of the position
+     */
+    private long index(int seeds, long rank, int store) {
+        return this.m_levelOffsets[seeds] + rank * (seeds + 1) + (store - 24 + seeds);
+    }
+
+    /**
+     * Read the value of a position
+     * @param index Index of the position
+     * @return WIN, LOSS or DRAW
+     */
+    private int getValue(long index) {
+        byte b = this.m_values.get(HEADER_SIZE + (int)(index >> 2));
+        return (b >> ((int)(index & 3) * 2)) & 3;
+    }
+
+    /**
+     * Write the value of a position
+     * @param index Index of the position
+     * @param value WIN, LOSS or DRAW
+     */
+    private void setValue(long index, int value) {
+        int offset = HEADER_SIZE + (int)(index >> 2);
+        int shift = (int)(index & 3) * 2;
+        byte b = this.m_values.get(offset);
+        this.m_values.put(offset, (byte)((b & ~(3 << shift)) | (value << shift)));
+    }
+
+    /**
+     * Count the compositions of an amount of seeds in several slots
+     * @param slots Amount of slots
+     * @param seeds Amount of seeds
+     * @return Amount of compositions
+     */
+    private static long compositions(int slots, int seeds) {
+        return BINOMIALS[seeds + slots - 1][slots - 1];
+    }
+
+    /**
+     * Get the rank of slots values among all the compositions of the same amount of seeds (in lexicographic order)
+     * @param cells Cells of the board (slots first)
+     * @param first Index of the slot read first (the 12 slots being read from it, wrapping around)
+     * @param seeds Amount of seeds in the slots
+     * @return Rank
+     */
+    private static long rank(byte[] cells, int first, int seeds) {
+        long rank = 0;
+        int remaining = seeds;
+
+        //count the compositions having a lower value in the first slot which differs
+        for (int i = 0 ; i < Board.NB_SLOTS - 1 ; i++) {
+            int value = cells[(first + i) % Board.NB_SLOTS];
+            for (int v = 0 ; v < value ; v++)
+                rank += compositions(Board.NB_SLOTS - 1 - i, remaining - v);
+            remaining -= value;
+        }
+
+        return rank;
+    }
+
+    /**
+     * Get the slots values having a given rank among the compositions of an amount of seeds
+     * @param rank Rank of the composition
+     * @param seeds Amount of seeds
+     * @param slots Array in which write the values of the 12 slots
+     */
+    private static void unrank(long rank, int seeds, int[] slots) {
+        int remaining = seeds;
+
+        for (int i = 0 ; i < Board.NB_SLOTS - 1 ; i++) {
+            int v = 0;
+            while (rank >= compositions(Board.NB_SLOTS - 1 - i, remaining - v)) {
+                rank -= compositions(Board.NB_SLOTS - 1 - i, remaining - v);
+                v++;
+            }
+            slots[i] = v;
+            remaining -= v;
+        }
+        slots[Board.NB_SLOTS - 1] = remaining;
+    }
+
+    /**
+     * Compute the index of the first position of each level
+     * @param maxSeeds Max amount of seeds on the board
+     * @return Offsets of each level (plus the total amount of positions)
+     */
+    private static long[] levelOffsets(int maxSeeds) {
+        long[] offsets = new long[maxSeeds + 2];
+        for (int seeds = 0 ; seeds <= maxSeeds ; seeds++)
+            offsets[seeds + 1] = offsets[seeds] + compositions(Board.NB_SLOTS, seeds) * (seeds + 1);
+
+        return offsets;
+    }
+
+    /**
+     * Compute the size of a database file
+     * @param maxSeeds Max amount of seeds on the board
+     * @return Size of the file (in bytes)
+     */
+    private static long fileSize(int maxSeeds) {
+        return HEADER_SIZE + (levelOffsets(maxSeeds)[maxSeeds + 1] + 3) / 4;
+    }
+
+    /**
+     * Generate an endgame database file
+     * @param args Path of the file to create, max amount of seeds on the board
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            LOGGER.log(Level.SEVERE, "Usage : EndgameDatabase <file> <max seeds (0-" + MAX_SEEDS + ")>");
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            generate(Paths.get(args[0]), Integer.parseInt(args[1]));
+            LOGGER.log(Level.INFO, "Endgame database generated in " + (System.nanoTime() - start) / 1000000000 + " s");
+        }
+        catch (IOException | InvalidParameterException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+        }
+    }
+}
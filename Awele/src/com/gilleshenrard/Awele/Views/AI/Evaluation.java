@@ -0,0 +1,58 @@
+/****************************************************************************************************/
+/*  Class Evaluation                                                                                */
+/*  Heuristic evaluation of a board shared by the search algorithms of the AI                       */
+/*  Seeds captured weigh a lot, seeds still in the slots weigh more the closer they are to the      */
+/*      opponent's row                                                                              */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Models.Point;
+
+final class Evaluation {
+    final static int INFINITE_POS = 200000;
+    final static int INFINITE_NEG = -INFINITE_POS;
+
+    /**
+     * Static class, not meant to be instantiated
+     */
+    private Evaluation() {}
+
+    /**
+     * Generate an evaluation value for the current state of the game, from a player's point of view
+     * @param controller Board controller holding the state to evaluate
+     * @param ID ID of the player for which evaluate (maximiser)
+     * @param p Point used to read the slots (overwritten, so no allocation is needed)
+     * @return Evaluation value, INFINITE_POS if the player won, INFINITE_NEG if the opponent won
+     */
+    static int evaluate(BoardController controller, int ID, Point p) {
+        int eval = 0;
+
+        //if minimiser (opponent) won the game
+        if (controller.getStoredSeeds(3 - ID) > 24)
+            return INFINITE_NEG;
+
+        //if maximiser (AI) won the game
+        if (controller.getStoredSeeds(ID) > 24)
+            return INFINITE_POS;
+
+        //process the evaluation for both players (added for the AI, substracted for the opponent)
+        for (int player=0 ; player < 2 ; player++){
+            //initialise the evaluation with the amount of seeds captured and add a lot of weight to it
+            int playerEval = 300 * controller.getStoredSeeds(player + 1);
+
+            //add the content of the player's slots, each weighted depending on their place (right more weighted)
+            for (int slot=0 ; slot < 6 ; slot++) {
+                p.setCoordinates(slot, player);
+                playerEval += controller.getSlotSeeds(p) * (slot+1);
+            }
+
+            eval += (player == ID - 1 ? playerEval : -playerEval);
+        }
+
+        //return the evaluation code
+        return eval;
+    }
+}
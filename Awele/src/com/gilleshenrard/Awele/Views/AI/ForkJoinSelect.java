@@ -0,0 +1,404 @@
+/****************************************************************************************************/
+/*  Class ForkJoinSelect                                                                            */
+/*  Implementation of the Strategy design pattern                                                   */
+/*  Allows a player to select a slot via a parallel alpha-beta search run in a fork/join pool       */
+/*  The nodes above the split depth search their first child alone (young brothers wait), then      */
+/*      fork the other ones as subtasks which idle threads can steal. Below the split depth, each   */
+/*      subtask searches sequentially on its own copy of the board                                  */
+/*  The alpha value of each node is shared with its subtasks, so a cutoff found by a sibling stops  */
+/*      the subtasks which became useless                                                           */
+/*  Each thread searches its tasks on a board and a controller of its own, reused from one task to  */
+/*      the next                                                                                    */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Views.Selectable;
+
+import java.security.InvalidParameterException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ForkJoinSelect extends Selectable {
+    private int m_maxDepth;
+    private int m_splitDepth;
+    private ForkJoinPool m_pool;
+    private LongAdder m_nodes;
+    private byte[] m_rootState;
+    private final ThreadLocal<Workspace> m_workspaces;
+    private final static int INFINITE_POS = Evaluation.INFINITE_POS;
+    private final static int INFINITE_NEG = Evaluation.INFINITE_NEG;
+
+    /**
+     * Create a new fork/join alpha-beta selection behaviour
+     * @param controller The board controller to use
+     * @throws NullPointerException
+     */
+    public ForkJoinSelect(BoardController controller) throws NullPointerException {
+        super(controller);
+        this.m_maxDepth = 10;
+        this.m_splitDepth = 4;
+        this.m_pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        this.m_nodes = new LongAdder();
+        this.m_rootState = new byte[Board.NB_CELLS];
+        this.m_workspaces = ThreadLocal.withInitial(Workspace::new);
+    }
+
+    /**
+     * Set the max depth of the tree the search will look up
+     * @param max Max depth
+     * @throws InvalidParameterException
+     */
+    public void setMaxDepth(int max) throws InvalidParameterException {
+        if (max <= 0)
+            throw new InvalidParameterException("ForkJoinSelect.setMaxDepth() : negative or null value for max depth (" + max + ")");
+
+        this.m_maxDepth = max;
+    }
+
+    /**
+     * Set the amount of plies from the root at which subtasks are forked (below, each subtask searches sequentially)
+     * @param split Split depth (0 to search sequentially)
+     * @throws InvalidParameterException
+     */
+    public void setSplitDepth(int split) throws InvalidParameterException {
+        if (split < 0)
+            throw new InvalidParameterException("ForkJoinSelect.setSplitDepth() : negative split depth (" + split + ")");
+
+        this.m_splitDepth = split;
+    }
+
+    /**
+     * Set the amount of threads of the fork/join pool
+     * @param threads Amount of threads
+     * @throws InvalidParameterException
+     */
+    public void setParallelism(int threads) throws InvalidParameterException {
+        if (threads <= 0)
+            throw new InvalidParameterException("ForkJoinSelect.setParallelism() : negative or null amount of threads (" + threads + ")");
+
+        this.m_pool.shutdown();
+        this.m_pool = new ForkJoinPool(threads);
+    }
+
+    /**
+     * Stop the threads of the fork/join pool (no slot can be selected afterwards)
+     */
+    @Override
+    public void close() {
+        this.m_pool.shutdownNow();
+    }
+
+    /**
+     * Get the amount of nodes visited during the last selection
+     * @return Amount of nodes
+     */
+    public long getNodeCount() {
+        return this.m_nodes.sum();
+    }
+
+    /**
+     * Return a flag stating the player is an AI
+     * @return true
+     */
+    @Override
+    public boolean isAI() {
+        return true;
+    }
+
+    /**
+     * Select a slot using the parallel alpha-beta search
+     * @return Selection, or -2 if error
+     * @throws NullPointerException
+     */
+    @Override
+    public int selectSlot() throws NullPointerException {
+        //check if there are any legal slots available
+        int ret = super.selectSlot();
+        if (ret < 0)
+            return ret;
+
+        //search from a copy of the current board (the root moves are one ply deeper than the max depth)
+        this.m_nodes.reset();
+        this.getController().getBoard().saveState(this.m_rootState, 0);
+        SearchTask root = new SearchTask(this, null, this.m_rootState.clone(), 0, this.m_maxDepth + 1, this.getID());
+        this.m_pool.invoke(root);
+
+        return root.m_bestSlot + 1;
+    }
+
+    /**
+     * Board, controller and move lists on which a thread searches its tasks
+     */
+    private static final class Workspace {
+        private final BoardController m_controller;
+        private final Point m_point;
+        private MoveList[] m_plyMoves;
+
+        /**
+         * Create a new workspace
+         */
+        Workspace() {
+            this.m_controller = new BoardController(new Board());
+            this.m_point = new Point(0, 0);
+            this.m_plyMoves = new MoveList[0];
+        }
+
+        /**
+         * Get the move lists of a sequential search, allocated on first use of a depth
+         * @param depth Depth of the search
+         * @return Move list of each ply
+         */
+        MoveList[] getPlyMoves(int depth) {
+            if (this.m_plyMoves.length < depth) {
+                MoveList[] moves = Arrays.copyOf(this.m_plyMoves, depth);
+                for (int i = this.m_plyMoves.length ; i < depth ; i++)
+                    moves[i] = new MoveList();
+                this.m_plyMoves = moves;
+            }
+
+            return this.m_plyMoves;
+        }
+    }
+
+    /**
+     * Subtask searching a node of the tree (negamax formulation : scores are given from the point of view of the player to play)
+     * Tasks are never serialised, RecursiveTask only being Serializable by inheritance
+     */
+    @SuppressWarnings("serial")
+    private static final class SearchTask extends RecursiveTask<Integer> {
+        private final ForkJoinSelect m_owner;
+        private final SearchTask m_parent;
+        private final byte[] m_state;
+        private final int m_ply;
+        private final int m_depth;
+        private final int m_side;
+        private final AtomicInteger m_alpha;
+        private int m_beta;
+        private int m_parentAlpha;
+        private boolean m_aborted;
+        private int m_bestSlot;
+        private long m_nodes;
+        private BoardController m_controller;
+        private MoveList[] m_plyMoves;
+        private Point m_point;
+
+        /**
+         * Create a new search subtask
+         * @param owner Selection behaviour which started the search
+         * @param parent Task searching the parent node (null if root)
+         * @param state Packed board values of the node
+         * @param ply Distance from the root
+         * @param depth Depth left to search
+         * @param side ID of the player to play
+         */
+        SearchTask(ForkJoinSelect owner, SearchTask parent, byte[] state, int ply, int depth, int side) {
+            this.m_owner = owner;
+            this.m_parent = parent;
+            this.m_state = state;
+            this.m_ply = ply;
+            this.m_depth = depth;
+            this.m_side = side;
+            this.m_alpha = new AtomicInteger(INFINITE_NEG);
+
+            //the root is never cut off, even by a winning move, so the results of all its children are read
+            //  (and a winning move ties with the other ones in index order, as in a sequential search)
+            this.m_beta = (parent == null ? INFINITE_POS + 1 : INFINITE_POS);
+            this.m_aborted = false;
+            this.m_bestSlot = 0;
+        }
+
+        /**
+         * Search the node
+         * @return Score of the node
+         */
+        @Override
+        protected Integer compute() {
+            //take the window of the parent as it is when the search starts (it may have narrowed since the fork)
+            if (this.m_parent != null) {
+                this.m_parentAlpha = this.m_parent.m_alpha.get();
+
+                //a root move is searched with a window lowered by one, so it gets its exact score even when tying with a
+                //  later move already searched (the ties then go to the first move, whatever the order the tasks end in)
+                if (this.m_parent.m_parent == null)
+                    this.m_parentAlpha--;
+                this.m_alpha.set(-this.m_parent.m_beta);
+                this.m_beta = -this.m_parentAlpha;
+            }
+
+            //do not start searching a node which became useless
+            if (this.isCutOff()) {
+                this.m_aborted = true;
+                return 0;
+            }
+
+            //search on the workspace of the thread (only used until the children are created)
+            Workspace workspace = this.m_owner.m_workspaces.get();
+            workspace.m_controller.getBoard().restoreState(this.m_state, 0);
+            this.m_controller = workspace.m_controller;
+            this.m_point = workspace.m_point;
+            this.m_plyMoves = workspace.getPlyMoves(this.m_depth);
+
+            int score = this.searchNode();
+            this.m_owner.m_nodes.add(this.m_nodes);
+
+            //share the score with the parent, so its other subtasks can use it (or stop if it causes a cutoff)
+            if (!this.m_aborted && this.m_parent != null)
+                this.m_parent.m_alpha.accumulateAndGet(-score, Math::max);
+
+            return score;
+        }
+
+        /**
+         * Evaluate the node, then search its children in parallel (above the split depth) or sequentially
+         * @return Score of the node
+         */
+        private int searchNode() {
+            //evaluate the current node and return its value if tree leaf reached or game won
+            if (this.m_ply > 0) {
+                this.m_nodes++;
+                int evaluation = this.evaluate(this.m_side);
+                if (this.m_depth == 0 || evaluation == INFINITE_POS || evaluation == INFINITE_NEG)
+                    return evaluation;
+            }
+
+            //below the split depth, search sequentially on the workspace of the thread
+            if (this.m_ply >= this.m_owner.m_splitDepth && this.m_ply > 0)
+                return this.search(this.m_depth, this.m_alpha.get(), this.m_beta, this.m_side);
+
+            //a player who can not play anything loses
+            MoveList moves = new MoveList();
+            this.m_controller.generateMoves(this.m_side, moves);
+            if (moves.size() == 0)
+                return INFINITE_NEG;
+
+            //create all the children first, as the thread may search other tasks on its workspace while waiting for them
+            List<SearchTask> children = new ArrayList<>();
+            for (int i = 0 ; i < moves.size() ; i++)
+                children.add(this.createChild(moves, i));
+
+            //young brothers wait : search the first child alone to get a window for the other ones
+            SearchTask first = children.get(0);
+            int best = -first.invoke();
+            if (first.m_aborted) {
+                this.m_aborted = true;
+                return this.m_alpha.get();
+            }
+            this.m_bestSlot = moves.getSlot(0);
+            if (this.m_alpha.get() >= this.m_beta)
+                return best;
+
+            //fork the other children and wait for all of them
+            invokeAll(children.subList(1, children.size()));
+
+            //the node is cut off if any child raised alpha above beta
+            if (this.m_alpha.get() >= this.m_beta)
+                return this.m_alpha.get();
+
+            //keep the best child, only among the ones which scored above the window they were searched with
+            for (int i = 1 ; i < children.size() ; i++) {
+                SearchTask child = children.get(i);
+                if (child.m_aborted) {
+                    this.m_aborted = true;
+                    return this.m_alpha.get();
+                }
+
+                int score = -child.join();
+                if (score > best && score > child.m_parentAlpha) {
+                    best = score;
+                    this.m_bestSlot = moves.getSlot(i);
+                }
+            }
+
+            return best;
+        }
+
+        /**
+         * Create the subtask searching a child node
+         * @param moves Legal moves of the current node
+         * @param index Index of the move leading to the child
+         * @return Subtask
+         */
+        private SearchTask createChild(MoveList moves, int index) {
+            byte[] state = new byte[Board.NB_CELLS];
+            this.m_controller.makeMove(moves, index);
+            this.m_controller.getBoard().saveState(state, 0);
+            this.m_controller.unmakeMove();
+
+            return new SearchTask(this.m_owner, this, state, this.m_ply + 1, this.m_depth - 1, 3 - this.m_side);
+        }
+
+        /**
+         * Sequential negamax alpha-beta search on the task board
+         * @param depth Depth left to search
+         * @param alpha Alpha value in this pruning state
+         * @param beta Beta value in this pruning state
+         * @param side ID of the player to play
+         * @return Score of the node
+         */
+        private int search(int depth, int alpha, int beta, int side) {
+            MoveList moves = this.m_plyMoves[depth - 1];
+            this.m_controller.generateMoves(side, moves);
+
+            int best = INFINITE_NEG;
+            for (int x = 0 ; x < moves.size() && !this.m_aborted ; x++) {
+                this.m_controller.makeMove(moves, x);
+                this.m_nodes++;
+
+                //stop regularly to check whether a sibling caused a cutoff in an ancestor
+                if ((this.m_nodes & 0x3FF) == 0 && this.isCutOff())
+                    this.m_aborted = true;
+
+                //evaluate the child, and search it if not a leaf
+                int score = this.evaluate(3 - side);
+                if (depth > 1 && score != INFINITE_POS && score != INFINITE_NEG)
+                    score = this.search(depth - 1, -beta, -alpha, 3 - side);
+                score = -score;
+                this.m_controller.unmakeMove();
+
+                //update the best score and the window
+                if (score > best)
+                    best = score;
+                if (score > alpha)
+                    alpha = score;
+                if (alpha >= beta)
+                    break;
+            }
+
+            return best;
+        }
+
+        /**
+         * Check whether the current task or any of its ancestors has been cut off
+         * @return true if cut off, false otherwise
+         */
+        private boolean isCutOff() {
+            for (SearchTask t = this.m_parent ; t != null ; t = t.m_parent) {
+                if (t.m_alpha.get() >= t.m_beta)
+                    return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * Evaluate the task board from the point of view of a player
+         * @param side ID of the player
+         * @return Evaluation
+         */
+        private int evaluate(int side) {
+            int evaluation = Evaluation.evaluate(this.m_controller, this.m_owner.getID(), this.m_point);
+            return (side == this.m_owner.getID() ? evaluation : -evaluation);
+        }
+    }
+}
@@ -2,31 +2,97 @@
 /*  Class MinimaxSelect                                                                             */
 /*  Implementation of the Strategy design pattern                                                   */
 /*  Allows a player to select a slot via the minimax algorithm                                      */
+/*  With a time budget, the tree is searched one depth after another until the budget is spent,     */
+/*      and the best slot of the last depth fully searched is selected                              */
+/*  With several threads, the root moves of each depth are split between workers, each searching    */
+/*      on its own copy of the board and sharing the same transposition table                       */
+/*  An endgame database can give the exact outcome of the positions with few seeds left, and an     */
+/*      opening book the slot to select during the first plies without searching                    */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Views.AI;
 
 import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
 import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Models.Zobrist;
 import com.gilleshenrard.Awele.Views.Selectable;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class MinimaxSelect extends Selectable {
     private int m_maxDepth;
-    private final static int INFINITE_POS = 200000;
-    private final static int INFINITE_NEG = -INFINITE_POS;
+    private SearchPlies m_plies;
+    private Point m_evalPoint;
+    private TranspositionTable m_table;
+    private long m_nodes;
+    private Duration m_timeBudget;
+    private long m_deadline;
+    private boolean m_aborted;
+    private int m_completedDepth;
+    private MinimaxSelect[] m_workers;
+    private ExecutorService m_executor;
+    private byte[] m_rootState;
+    private byte[] m_probeCells;
+    private double m_utilisation;
+    private long m_searchTime;
+    private int m_rootDepth;
+    private long m_cutoffs;
+    private long m_firstCutoffs;
+    private EndgameDatabase m_endgame;
+    private OpeningBook m_book;
+    private final static int INFINITE_POS = Evaluation.INFINITE_POS;
+    private final static int INFINITE_NEG = Evaluation.INFINITE_NEG;
+    private final static int ENDGAME_WIN = INFINITE_POS / 2;
     private final static int ERROR = Integer.MIN_VALUE;
 
     /**
-     * Create a new Minimax selection behaviour
+     * Create a new Minimax selection behaviour, with a transposition table of its own (of the default size)
      * @param controller The board controller to use
      * @throws NullPointerException
      */
     public MinimaxSelect(BoardController controller) throws NullPointerException{
+        this(controller, new TranspositionTable(TranspositionTable.DEFAULT_MEGABYTES, TranspositionTable.Replacement.DEPTH_PREFERRED));
+    }
+
+    /**
+     * Create a new Minimax selection behaviour with a given transposition table
+     *      (scores are stored from the point of view of the AI, so the table can only be shared with other MinimaxSelect playing the same player)
+     * @param controller The board controller to use
+     * @param table Transposition table to use (null to search without any)
+     * @throws NullPointerException
+     */
+    public MinimaxSelect(BoardController controller, TranspositionTable table) throws NullPointerException{
         super(controller);
-        this.setMaxDepth(10);
+        this.m_evalPoint = new Point(0, 0);
+        this.m_table = table;
+        this.m_nodes = 0;
+        this.m_cutoffs = 0;
+        this.m_firstCutoffs = 0;
+        this.m_timeBudget = null;
+        this.m_endgame = null;
+        this.m_book = null;
+        this.m_completedDepth = 0;
+        this.m_workers = null;
+        this.m_executor = null;
+        this.m_rootState = new byte[Board.NB_CELLS];
+        this.m_probeCells = new byte[Board.NB_CELLS];
+        this.m_utilisation = 1.0;
+        this.m_maxDepth = 10;
+        this.m_plies = new SearchPlies(10);
     }
 
     /**
@@ -39,6 +105,158 @@ public class MinimaxSelect extends Selectable {
             throw new InvalidParameterException("MinimaxSelect.setMaxDepth() : negative or null value for max depth (" + max + ")");
 
         this.m_maxDepth = max;
+        this.m_plies = new SearchPlies(max);
+    }
+
+    /**
+     * Set the time the AI is allowed to think for each selection (the depths are then searched
+     *      one after another, up to the max depth, until the budget is spent)
+     * @param budget Time budget per selection (null to always search the max depth)
+     * @throws InvalidParameterException
+     */
+    public void setTimeBudget(Duration budget) throws InvalidParameterException {
+        if (budget != null && (budget.isNegative() || budget.isZero()))
+            throw new InvalidParameterException("MinimaxSelect.setTimeBudget() : negative or null time budget (" + budget + ")");
+
+        this.m_timeBudget = budget;
+    }
+
+    /**
+     * Set the amount of threads searching the root moves in parallel
+     * @param threads Amount of threads (1 to search sequentially)
+     * @throws InvalidParameterException
+     */
+    public void setThreads(int threads) throws InvalidParameterException {
+        if (threads <= 0)
+            throw new InvalidParameterException("MinimaxSelect.setThreads() : negative or null amount of threads (" + threads + ")");
+
+        //stop the workers previously used
+        if (this.m_executor != null) {
+            this.m_executor.shutdownNow();
+            this.m_executor = null;
+            this.m_workers = null;
+        }
+
+        if (threads == 1)
+            return;
+
+        //each worker searches on its own board copy, with daemon threads so they never keep the application alive
+        AtomicInteger count = new AtomicInteger(0);
+        this.m_executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "MinimaxSelect-worker-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.m_workers = new MinimaxSelect[threads];
+        for (int i = 0 ; i < threads ; i++)
+            this.m_workers[i] = new MinimaxSelect(new BoardController(new Board()), null);
+    }
+
+    /**
+     * Stop the threads of the workers (the next selections are searched sequentially)
+     */
+    @Override
+    public void close() {
+        this.setThreads(1);
+    }
+
+    /**
+     * Measure the speedup of the parallel search on a position : time taken to search a fixed depth with
+     *      one thread, divided by the time taken with several threads (both without transposition table,
+     *      so neither benefits from the positions stored by the other)
+     * @param board Position to search (not modified)
+     * @param ID ID of the player to play
+     * @param depth Depth to search
+     * @param threads Amount of threads of the parallel search
+     * @return Speedup (above 1 if the parallel search is faster)
+     * @throws InvalidParameterException
+     * @throws NullPointerException
+     */
+    public static double measureSpeedup(Board board, int ID, int depth, int threads) throws InvalidParameterException, NullPointerException {
+        if (board == null)
+            throw new NullPointerException("MinimaxSelect.measureSpeedup() : NULL instance of Board");
+
+        long[] times = new long[2];
+        int[] threadCounts = {1, threads};
+        for (int i = 0 ; i < 2 ; i++) {
+            MinimaxSelect ai = new MinimaxSelect(new BoardController(new Board(board)), null);
+            try {
+                ai.setID(ID);
+                ai.setMaxDepth(depth);
+                ai.setThreads(threadCounts[i]);
+
+                //the first search warms the code up, only the second one is timed
+                ai.selectSlot();
+                long start = System.nanoTime();
+                ai.selectSlot();
+                times[i] = System.nanoTime() - start;
+            }
+            finally {
+                ai.close();
+            }
+        }
+
+        return (double)times[0] / Math.max(1L, times[1]);
+    }
+
+    /**
+     * Get the CPU utilisation of the last selection, measured as the CPU time spent searching by all
+     *      the threads divided by the time the selection took (average amount of cores kept busy, 1.0
+     *      when searching sequentially)
+     * This is not the speedup (see measureSpeedup()), as the workers also search nodes a sequential search would have pruned
+     * @return CPU utilisation of the last selection
+     */
+    public double getUtilisation() {
+        return this.m_utilisation;
+    }
+
+    /**
+     * Get the deepest depth fully searched during the last selection
+     * @return Depth completed
+     */
+    public int getCompletedDepth() {
+        return this.m_completedDepth;
+    }
+
+    /**
+     * Set the transposition table in which remember the positions already searched
+     * @param table Transposition table to use (null to search without any)
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.m_table = table;
+    }
+
+    /**
+     * Set the endgame database giving the exact outcome of the positions with few seeds left on the board
+     * @param database Endgame database to use (null to search without any)
+     */
+    public void setEndgameDatabase(EndgameDatabase database) {
+        this.m_endgame = database;
+    }
+
+    /**
+     * Set the opening book giving the slot to select in the first plies of a game
+     * @param book Opening book to use (null to always search)
+     */
+    public void setOpeningBook(OpeningBook book) {
+        this.m_book = book;
+    }
+
+    /**
+     * Get the amount of nodes visited during the last selection
+     * @return Amount of nodes
+     */
+    public long getNodeCount() {
+        return this.m_nodes;
+    }
+
+    /**
+     * Get the proportion of cutoffs caused by the first move searched during the last selection
+     *      (the closer to 1, the better the move ordering)
+     * @return Rate of first move cutoffs (0 if no cutoff)
+     */
+    public double getFirstMoveCutoffRate() {
+        return (this.m_cutoffs == 0 ? 0.0 : (double)this.m_firstCutoffs / this.m_cutoffs);
     }
 
     /**
@@ -62,27 +280,58 @@ public class MinimaxSelect extends Selectable {
         if (bestShot < 0)
             return bestShot;
 
-        try {
-            int bestVal = ERROR;
+        //flag the entries of the previous selections as replaceable
+        this.m_nodes = 0;
+        this.m_cutoffs = 0;
+        this.m_firstCutoffs = 0;
+        this.m_aborted = false;
+        this.m_completedDepth = 0;
+        this.m_plies.getOrdering().clear();
 
-            //test each legal slots for the best value
-            Point slot = new Point(0, 0);
-            for (int x = 0; x < this.getLegal().size(); x++) {
-                slot.setCoordinates(this.getLegal().get(x), this.getID() - 1);
+        //if the position is in the opening book, select its slot without searching
+        if (this.m_book != null) {
+            int slot = this.m_book.probe(this.getController().getBoard(), this.getID());
+            if (slot >= 0 && this.getLegal().contains(slot))
+                return slot + 1;
+        }
 
-                //get the slot minimax value (AI is the maximiser, the opponent is the minimiser)
-                int val = miniMax(slot, this.m_maxDepth, INFINITE_NEG, INFINITE_POS, true);
+        if (this.m_table != null)
+            this.m_table.newSearch();
 
-                //if no error, update the best value and the best slot
-                if (val != ERROR && val > bestVal) {
-                    bestVal = val;
-                    bestShot = slot.getX();
+        //without time budget, only the max depth is searched
+        int depth = this.m_maxDepth;
+        if (this.m_timeBudget != null) {
+            this.m_deadline = System.nanoTime() + this.m_timeBudget.toNanos();
+            depth = 1;
+        }
+
+        try {
+            MoveList moves = this.getMoves();
+            int bestIndex = 0;
+
+            //search each depth until the max one is reached or the time budget is spent
+            long start = System.nanoTime();
+            this.m_searchTime = 0;
+            for ( ; depth <= this.m_maxDepth && !this.m_aborted ; depth++) {
+                int depthBest;
+                if (this.m_workers == null)
+                    depthBest = this.searchRoot(moves, depth, bestIndex);
+                else
+                    depthBest = this.searchRootParallel(moves.size(), depth, bestIndex);
+
+                //only keep the result of a depth which has been searched completely
+                if (!this.m_aborted) {
+                    bestIndex = depthBest;
+                    this.m_completedDepth = depth;
                 }
             }
+            this.m_utilisation = (this.m_workers == null ? 1.0 : (double)this.m_searchTime / Math.max(1L, System.nanoTime() - start));
+
+            bestShot = moves.getSlot(bestIndex);
         }
         catch (Exception e){
-            //empty the BoardController stack, then rethrow the exception caught
-            while (this.getController() != null && this.getController().popStack() > 0){}
+            //undo all the moves left in the BoardController, then rethrow the exception caught
+            while (this.getController() != null && this.getController().unmakeMove() > 0){}
             throw e;
         }
 
@@ -90,9 +339,160 @@ public class MinimaxSelect extends Selectable {
         return bestShot + 1;
     }
 
+    /**
+     * Search all the root moves at a given depth, starting with the previous best one
+     * @param moves Legal root moves
+     * @param depth Depth to search
+     * @param bestIndex Index of the best move found at the previous depth
+     * @return Index of the best move
+     * @throws NullPointerException
+     */
+    private int searchRoot(MoveList moves, int depth, int bestIndex) throws NullPointerException {
+        int bestVal = ERROR;
+        int depthBest = bestIndex;
+        this.m_rootDepth = depth;
+
+        for (int i = 0; i < moves.size() && !this.m_aborted; i++) {
+            int index = rootIndex(i, bestIndex);
+
+            //get the move minimax value (AI is the maximiser and has just played, the opponent is the minimiser)
+            int val = miniMax(moves, index, depth, Math.max(bestVal, INFINITE_NEG), INFINITE_POS, false);
+
+            //update the best value and the best move
+            if (!this.m_aborted && val > bestVal) {
+                bestVal = val;
+                depthBest = index;
+            }
+        }
+
+        return depthBest;
+    }
+
+    /**
+     * Split the root moves between the workers, each picking the next move to search until none are left
+     * @param nbMoves Amount of legal root moves
+     * @param depth Depth to search
+     * @param bestIndex Index of the best move found at the previous depth
+     * @return Index of the best move
+     * @throws NullPointerException
+     */
+    private int searchRootParallel(int nbMoves, int depth, int bestIndex) throws NullPointerException {
+        AtomicInteger next = new AtomicInteger(0);
+        int[] best = {ERROR, bestIndex};
+        List<Callable<Long>> tasks = new ArrayList<>();
+
+        //copy the root position and the search parameters in each worker
+        this.getController().getBoard().saveState(this.m_rootState, 0);
+        for (MinimaxSelect worker : this.m_workers) {
+            worker.prepareWorker(this, depth);
+            tasks.add(() -> worker.searchWorker(next, best, nbMoves, depth, bestIndex));
+        }
+
+        //wait for all the workers, then sum their nodes and their CPU time
+        try {
+            for (Future<Long> f : this.m_executor.invokeAll(tasks))
+                this.m_searchTime += f.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.m_aborted = true;
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw new IllegalStateException("MinimaxSelect.searchRootParallel() : " + e.getCause().getMessage());
+        }
+
+        for (MinimaxSelect worker : this.m_workers) {
+            this.m_nodes += worker.m_nodes;
+            this.m_cutoffs += worker.m_cutoffs;
+            this.m_firstCutoffs += worker.m_firstCutoffs;
+            this.m_aborted |= worker.m_aborted;
+        }
+        return best[1];
+    }
+
+    /**
+     * Copy the root position and the search parameters of the main search in a worker
+     * @param main Main search
+     * @param depth Depth to search
+     */
+    private void prepareWorker(MinimaxSelect main, int depth) {
+        if (this.m_maxDepth != main.m_maxDepth)
+            this.setMaxDepth(main.m_maxDepth);
+
+        this.setID(main.getID());
+        this.m_table = main.m_table;
+        this.m_endgame = main.m_endgame;
+        this.m_timeBudget = main.m_timeBudget;
+        this.m_deadline = main.m_deadline;
+        this.m_completedDepth = main.m_completedDepth;
+        this.m_aborted = false;
+        this.m_nodes = 0;
+        this.m_cutoffs = 0;
+        this.m_firstCutoffs = 0;
+        this.m_rootDepth = depth;
+        if (main.m_completedDepth == 0)
+            this.m_plies.getOrdering().clear();
+        this.getController().getBoard().restoreState(main.m_rootState, 0);
+        this.getController().generateMoves(this.getID(), this.getMoves());
+    }
+
+    /**
+     * Search the root moves left until none are left or the search is aborted
+     * @param next Index of the next root move to search (shared by all the workers)
+     * @param best Best value and best move index found (shared by all the workers)
+     * @param nbMoves Amount of legal root moves
+     * @param depth Depth to search
+     * @param bestIndex Index of the best move found at the previous depth
+     * @return CPU time spent searching (in ns)
+     */
+    private long searchWorker(AtomicInteger next, int[] best, int nbMoves, int depth, int bestIndex) {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        long start = bean.getCurrentThreadCpuTime();
+        int i;
+
+        try {
+            while (!this.m_aborted && (i = next.getAndIncrement()) < nbMoves) {
+                int index = rootIndex(i, bestIndex);
+                int alpha;
+                synchronized (best) {
+                    alpha = best[0];
+                }
+
+                //search the move with the best value found so far by any worker as alpha
+                int val = miniMax(this.getMoves(), index, depth, Math.max(alpha, INFINITE_NEG), INFINITE_POS, false);
+
+                synchronized (best) {
+                    if (!this.m_aborted && val > best[0]) {
+                        best[0] = val;
+                        best[1] = index;
+                    }
+                }
+            }
+        }
+        catch (RuntimeException e) {
+            while (this.getController().unmakeMove() > 0){}
+            throw e;
+        }
+
+        return bean.getCurrentThreadCpuTime() - start;
+    }
+
+    /**
+     * Get the index of the i-th root move to search, the best move of the previous depth coming first
+     * @param i Order in which the move is searched
+     * @param bestIndex Index of the best move found at the previous depth
+     * @return Index of the move in the list
+     */
+    private static int rootIndex(int i, int bestIndex) {
+        return (i == 0 ? bestIndex : (i <= bestIndex ? i - 1 : i));
+    }
+
     /**
      * Use the Minimax algorithm to determine the best move
-     * @param slot Slot to play in this node
+     * @param moves Legal moves generated in the parent node
+     * @param index Index of the move to play in this node
      * @param depth Depth of the current node
      * @param alpha Alpha value in this pruning state
      * @param beta Beta value in this pruning state
@@ -100,51 +500,135 @@ public class MinimaxSelect extends Selectable {
      * @return Best Slot to select
      * @throws NullPointerException
      */
-    private int miniMax(Point slot, int depth, int alpha, int beta, boolean maximiser) throws NullPointerException{
+    private int miniMax(MoveList moves, int index, int depth, int alpha, int beta, boolean maximiser) throws NullPointerException{
         if (this.getController() == null)
             throw new NullPointerException("MinimaxSelect.miniMax() : Board controller is not instantiated");
 
-        //save a copy of the parent node state
-        this.getController().pushStack();
+        //play the current node move (the parent values are kept in the controller undo buffer)
+        this.getController().makeMove(moves, index);
+        this.m_nodes++;
 
-        //play the current node slot and, if error,
-        //  restore the parent board and return error code
-        if (this.getController().playSlot(slot) < 0 ) {
-            this.getController().popStack();
-            return ERROR;
+        //abort the search if the time budget is spent (once at least one depth has been completed)
+        if (this.m_timeBudget != null && this.m_completedDepth > 0 && (this.m_nodes & 0x3FF) == 0 && System.nanoTime() > this.m_deadline)
+            this.m_aborted = true;
+        if (this.m_aborted) {
+            this.getController().unmakeMove();
+            return 0;
         }
 
-        //evaluate the current node and return its value if tree leaf reached or game won
+        //evaluate the current node and return its value if game won
         int evaluation = evaluateState();
-        if (depth == 0 || evaluation == INFINITE_POS || evaluation == INFINITE_NEG) {
-            this.getController().popStack();
+        if (evaluation == INFINITE_POS || evaluation == INFINITE_NEG) {
+            this.getController().unmakeMove();
             return evaluation;
         }
 
+        //AI is the maximiser, opponent is the minimiser, each evaluate on its side
+        int side = (maximiser ? this.getID() : 3 - this.getID());
+
+        //if few seeds are left, the endgame database gives the exact outcome (kept above any other evaluation, material deciding between wins)
+        if (this.m_endgame != null) {
+            int outcome = this.m_endgame.probe(this.getController().getBoard(), side, this.m_probeCells);
+            if (outcome != EndgameDatabase.UNKNOWN) {
+                this.getController().unmakeMove();
+                if (outcome == EndgameDatabase.DRAW)
+                    return 0;
+                return ((outcome == EndgameDatabase.WIN) == maximiser ? ENDGAME_WIN : -ENDGAME_WIN) + evaluation;
+            }
+        }
+
+        //return the evaluation if tree leaf reached
+        if (depth == 0) {
+            this.getController().unmakeMove();
+            return evaluation;
+        }
+        int alphaOrigin = alpha;
+        int betaOrigin = beta;
+        long key = 0L;
+        int tableSlot = TranspositionTable.NO_SLOT;
+
+        //if the position has already been searched deep enough, use its score to narrow the window (or return it)
+        if (this.m_table != null) {
+            key = this.getController().getBoard().getHash() ^ Zobrist.getSideKey(side);
+            long entry = this.m_table.probe(key);
+            if (entry != 0L)
+                tableSlot = TranspositionTable.getSlot(entry);
+            if (entry != 0L && TranspositionTable.getDepth(entry) >= depth) {
+                int score = TranspositionTable.getScore(entry);
+                switch (TranspositionTable.getBound(entry)) {
+                    case TranspositionTable.EXACT:
+                        alpha = score;
+                        beta = score;
+                        break;
+
+                    case TranspositionTable.LOWER:
+                        alpha = Math.max(alpha, score);
+                        break;
+
+                    case TranspositionTable.UPPER:
+                        beta = Math.min(beta, score);
+                        break;
+                }
+
+                if (alpha >= beta) {
+                    this.getController().unmakeMove();
+                    return score;
+                }
+            }
+        }
+
         //look for the best maximising value in all the minimising children, or the best minimising in each maximising children
         int bestEvaluation = (maximiser ? INFINITE_NEG : INFINITE_POS);
+        int bestSlot = TranspositionTable.NO_SLOT;
+        MoveList children = this.m_plies.getMoves(depth - 1);
+        int[] order = this.m_plies.getOrder(depth - 1);
+        int ply = this.m_rootDepth - depth;
+        this.getController().generateMoves(side, children);
+        this.m_plies.getOrdering().order(children, tableSlot, ply, order);
         int x = 0;
-        do{
-            //AI is the maximiser, opponent is the minimiser, each evaluate on its side
-            Point childSlot = new Point(x, (maximiser ? this.getID()-1 : 2-this.getID()));
-            evaluation = miniMax(childSlot, depth - 1, alpha, beta, !maximiser);
-
-            //if no error, update the best evaluation, alpha and beta values
-            if (evaluation != ERROR) {
-                if (maximiser) {
-                    bestEvaluation = Math.max(bestEvaluation, evaluation);
-                    alpha = Math.max(alpha, evaluation);
+        while (x < children.size() && beta > alpha && !this.m_aborted) {
+            int child = order[x];
+            evaluation = miniMax(children, child, depth - 1, alpha, beta, !maximiser);
+
+            //update the best evaluation, alpha and beta values
+            if (maximiser) {
+                if (evaluation > bestEvaluation) {
+                    bestEvaluation = evaluation;
+                    bestSlot = children.getSlot(child);
                 }
-                else {
-                    bestEvaluation = Math.min(bestEvaluation, evaluation);
-                    beta = Math.min(beta, evaluation);
+                alpha = Math.max(alpha, evaluation);
+            }
+            else {
+                if (evaluation < bestEvaluation) {
+                    bestEvaluation = evaluation;
+                    bestSlot = children.getSlot(child);
                 }
+                beta = Math.min(beta, evaluation);
+            }
+
+            //remember the moves causing cutoffs, and how often the first one does
+            if (beta <= alpha && !this.m_aborted) {
+                this.m_cutoffs++;
+                if (x == 0)
+                    this.m_firstCutoffs++;
+                this.m_plies.getOrdering().cutoff(children, child, ply, depth);
             }
             x++;
-        }while(x<6 && beta > alpha);
+        }
+
+        //remember the evaluation, and whether it is exact or only a bound of the window searched (unless aborted)
+        if (this.m_table != null && !this.m_aborted) {
+            int bound = TranspositionTable.EXACT;
+            if (bestEvaluation <= alphaOrigin)
+                bound = TranspositionTable.UPPER;
+            else if (bestEvaluation >= betaOrigin)
+                bound = TranspositionTable.LOWER;
+
+            this.m_table.store(key, depth, bestEvaluation, bound, bestSlot);
+        }
 
         //restore the parent status and return the current node best evaluation
-        this.getController().popStack();
+        this.getController().unmakeMove();
         return bestEvaluation;
     }
 
@@ -157,30 +641,6 @@ public class MinimaxSelect extends Selectable {
         if (this.getController() == null)
             throw new NullPointerException("MinimaxSelect.evaluateState() : Board controller is not instantiated");
 
-        int[] eval = new int[2];
-        Point p = new Point(0, 0);
-
-        //if minimiser (opponent) won the game
-        if (this.getController().getStoredSeeds(3 - this.getID()) > 24)
-            return INFINITE_NEG;
-
-        //if maximiser (AI) won the game
-        if (this.getController().getStoredSeeds(this.getID()) > 24)
-            return INFINITE_POS;
-
-        //process the evaluation for both players
-        for (int player=0 ; player < 2 ; player++){
-            //initialise the evaluation with the amount of seeds captured and add a lot of weight to it
-            eval[player] = 300 * this.getController().getStoredSeeds(player + 1);
-
-            //add the content of the player's slots, each weighted depending on their place (right more weighted)
-            for (int slot=0 ; slot < 6 ; slot++) {
-                p.setCoordinates(slot, player);
-                eval[player] += this.getController().getSlotSeeds(p) * (slot+1);
-            }
-        }
-
-        //return the evaluation code
-        return eval[this.getID() - 1] - eval[2 - this.getID()];
+        return Evaluation.evaluate(this.getController(), this.getID(), this.m_evalPoint);
     }
 }
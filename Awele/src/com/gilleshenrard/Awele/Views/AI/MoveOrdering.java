@@ -0,0 +1,114 @@
+/****************************************************************************************************/
+/*  Class MoveOrdering                                                                              */
+/*  Sorts the moves of a node so the ones most likely to cause a cutoff are searched first :        */
+/*      the transposition table move, then the captures (biggest first), then the killer moves of   */
+/*      the ply (quiet moves which caused a cutoff in a sibling), then the others by history score  */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.MoveList;
+
+import java.util.Arrays;
+
+public final class MoveOrdering {
+    private final static int TABLE_SCORE = 1 << 30;
+    private final static int CAPTURE_SCORE = 1 << 29;
+    private final static int KILLER_SCORE = 1 << 28;
+    private final static int HISTORY_MAX = 1 << 20;
+    private final static int NO_SLOT = -1;
+    private int[][] m_killers;
+    private int[][] m_history;
+    private int[] m_scores;
+
+    /**
+     * Create a new move ordering
+     * @param maxPly Amount of plies for which killer moves are kept
+     */
+    public MoveOrdering(int maxPly) {
+        this.m_killers = new int[maxPly][2];
+        this.m_history = new int[2][6];
+        this.m_scores = new int[6];
+        this.clear();
+    }
+
+    /**
+     * Forget the killer moves and age the history scores (to call before each selection)
+     */
+    public void clear() {
+        for (int[] killers : this.m_killers)
+            Arrays.fill(killers, NO_SLOT);
+
+        for (int[] history : this.m_history) {
+            for (int i = 0 ; i < history.length ; i++)
+                history[i] >>= 1;
+        }
+    }
+
+    /**
+     * Fill an array with the indexes of the moves in the order in which search them
+     * @param moves Legal moves of the node
+     * @param tableSlot Best slot stored in the transposition table for the node (or any invalid slot if none)
+     * @param ply Distance of the node from the root
+     * @param order Array in which write the indexes (at least 6 values)
+     */
+    public void order(MoveList moves, int tableSlot, int ply, int[] order) {
+        int side = moves.getID() - 1;
+
+        //score each move depending on its category
+        for (int i = 0 ; i < moves.size() ; i++) {
+            int slot = moves.getSlot(i);
+            int score;
+            if (slot == tableSlot)
+                score = TABLE_SCORE;
+            else if (moves.getCaptured(i) > 0)
+                score = CAPTURE_SCORE + moves.getCaptured(i);
+            else if (slot == this.m_killers[ply][0])
+                score = KILLER_SCORE + 1;
+            else if (slot == this.m_killers[ply][1])
+                score = KILLER_SCORE;
+            else
+                score = this.m_history[side][slot];
+
+            //insert the move after all the ones with a better or equal score (at most 6 moves, no need for a faster sort)
+            int j = i;
+            while (j > 0 && this.m_scores[j - 1] < score) {
+                this.m_scores[j] = this.m_scores[j - 1];
+                order[j] = order[j - 1];
+                j--;
+            }
+            this.m_scores[j] = score;
+            order[j] = i;
+        }
+    }
+
+    /**
+     * Remember a move which caused a cutoff
+     * @param moves Legal moves of the node
+     * @param index Index of the move which caused the cutoff
+     * @param ply Distance of the node from the root
+     * @param depth Depth left to search below the node
+     */
+    public void cutoff(MoveList moves, int index, int ply, int depth) {
+        //captures are already searched early, only quiet moves become killers
+        if (moves.getCaptured(index) > 0)
+            return;
+
+        int slot = moves.getSlot(index);
+        if (this.m_killers[ply][0] != slot) {
+            this.m_killers[ply][1] = this.m_killers[ply][0];
+            this.m_killers[ply][0] = slot;
+        }
+
+        //deep cutoffs weigh more, and all the scores are halved when one becomes too big
+        int[] history = this.m_history[moves.getID() - 1];
+        history[slot] += depth * depth;
+        if (history[slot] > HISTORY_MAX) {
+            for (int[] h : this.m_history) {
+                for (int i = 0 ; i < h.length ; i++)
+                    h[i] >>= 1;
+            }
+        }
+    }
+}
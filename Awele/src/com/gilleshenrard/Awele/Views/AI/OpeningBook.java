@@ -0,0 +1,199 @@
+/****************************************************************************************************/
+/*  Class OpeningBook                                                                               */
+/*  Memory-mapped file holding the best slot of every position reachable during the first plies   */
+/*      of a game, searched deeply once and for all                                                 */
+/*  Entries (Zobrist hash of the position and player to play, slot, depth searched) are sorted by   */
+/*      hash, so a position is found with a binary search directly in the mapped file               */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Zobrist;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.InvalidParameterException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public final class OpeningBook {
+    private final static Logger LOGGER = Logger.getLogger(OpeningBook.class.getName());
+    private final static int MAGIC = 0x41574f42;   //"AWOB"
+    private final static int HEADER_SIZE = 16;
+    private final static int ENTRY_SIZE = 16;
+    private final MappedByteBuffer m_entries;
+    private final int m_size;
+
+    /**
+     * Create an opening book on a mapped file
+     * @param entries Mapped file (header included)
+     * @param size Amount of entries
+     */
+    private OpeningBook(MappedByteBuffer entries, int size) {
+        this.m_entries = entries;
+        this.m_size = size;
+    }
+
+    /**
+     * Open an existing opening book file
+     * @param path Path to the file
+     * @return Opening book
+     * @throws IOException
+     */
+    public static OpeningBook open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer entries = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int size = entries.getInt(4);
+            if (entries.getInt(0) != MAGIC || size < 0 || channel.size() != HEADER_SIZE + (long)size * ENTRY_SIZE)
+                throw new IOException("OpeningBook.open() : " + path + " is not a valid opening book");
+
+            return new OpeningBook(entries, size);
+        }
+    }
+
+    /**
+     * Search the best slot of every position reachable during the first plies of a game, and write them in a file
+     * @param path Path to the file to create (overwritten if existing)
+     * @param plies Amount of plies covered by the book
+     * @param depth Depth of the search of each position
+     * @return Opening book generated
+     * @throws IOException
+     * @throws InvalidParameterException
+     */
+    public static OpeningBook build(Path path, int plies, int depth) throws IOException, InvalidParameterException {
+        if (plies <= 0)
+            throw new InvalidParameterException("OpeningBook.build() : negative or null amount of plies (" + plies + ")");
+
+        //the AI searches on its own board, restored with each position of the book (its workers are stopped once done)
+        Board searchBoard = new Board();
+        TreeMap<Long, Integer> book = new TreeMap<>();
+        try (MinimaxSelect ai = new MinimaxSelect(new BoardController(searchBoard))) {
+            ai.setMaxDepth(depth);
+            ai.setThreads(Runtime.getRuntime().availableProcessors());
+
+            //search every position reachable from the start of the game (transpositions searched only once)
+            Board board = new Board();
+            explore(new BoardController(board), 1, plies, new byte[Board.NB_CELLS], searchBoard, ai, book);
+        }
+
+        //write the entries sorted by hash
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer entries = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long)book.size() * ENTRY_SIZE);
+            entries.putInt(0, MAGIC);
+            entries.putInt(4, book.size());
+
+            int offset = HEADER_SIZE;
+            for (Map.Entry<Long, Integer> e : book.entrySet()) {
+                entries.putLong(offset, e.getKey());
+                entries.putInt(offset + 8, e.getValue());
+                entries.putInt(offset + 12, depth);
+                offset += ENTRY_SIZE;
+            }
+            entries.force();
+
+            return new OpeningBook(entries, book.size());
+        }
+    }
+
+    /**
+     * Search the current position, then all the positions reachable from it
+     * @param controller Controller of the board explored
+     * @param ID ID of the player to play
+     * @param plies Amount of plies left to explore
+     * @param state Buffer used to copy the position to search
+     * @param searchBoard Board on which the AI searches
+     * @param ai AI searching the positions
+     * @param book Best slot of each position searched, by hash
+     */
+    private static void explore(BoardController controller, int ID, int plies, byte[] state, Board searchBoard, MinimaxSelect ai, TreeMap<Long, Integer> book) {
+        long key = controller.getBoard().getHash() ^ Zobrist.getSideKey(ID);
+        if (book.containsKey(key))
+            return;
+
+        //search the position
+        controller.getBoard().saveState(state, 0);
+        searchBoard.restoreState(state, 0);
+        ai.setID(ID);
+        int slot = ai.selectSlot();
+        if (slot <= 0)
+            return;
+        book.put(key, slot - 1);
+        LOGGER.log(Level.FINE, "Opening book : " + book.size() + " positions searched");
+
+        //explore each position reachable
+        if (plies > 1) {
+            MoveList moves = new MoveList();
+            controller.generateMoves(ID, moves);
+            for (int i = 0 ; i < moves.size() ; i++) {
+                controller.makeMove(moves, i);
+                explore(controller, 3 - ID, plies - 1, state, searchBoard, ai, book);
+                controller.unmakeMove();
+            }
+        }
+    }
+
+    /**
+     * Get the amount of positions in the book
+     * @return Amount of positions
+     */
+    public int size() {
+        return this.m_size;
+    }
+
+    /**
+     * Look for the best slot of a position
+     * @param board Board of the position
+     * @param ID ID of the player to play
+     * @return Slot to harvest (0-5), or -1 if the position is not in the book
+     */
+    public int probe(Board board, int ID) {
+        long key = board.getHash() ^ Zobrist.getSideKey(ID);
+        int low = 0;
+        int high = this.m_size - 1;
+
+        //binary search on the hashes, directly in the mapped file
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int offset = HEADER_SIZE + middle * ENTRY_SIZE;
+            long current = this.m_entries.getLong(offset);
+            if (current < key)
+                low = middle + 1;
+            else if (current > key)
+                high = middle - 1;
+            else
+                return this.m_entries.getInt(offset + 8);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Generate an opening book file
+     * @param args Path of the file to create, amount of plies, depth of the search
+     */
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            LOGGER.log(Level.SEVERE, "Usage : OpeningBook <file> <plies> <search depth>");
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            OpeningBook book = build(Paths.get(args[0]), Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+            LOGGER.log(Level.INFO, "Opening book of " + book.size() + " positions generated in " + (System.nanoTime() - start) / 1000000000 + " s");
+        }
+        catch (IOException | InvalidParameterException e) {
+            LOGGER.log(Level.SEVERE, e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,262 @@
+/****************************************************************************************************/
+/*  Class PVSSelect                                                                                 */
+/*  Implementation of the Strategy design pattern                                                   */
+/*  Allows a player to select a slot via a Principal Variation Search (negamax form)                */
+/*  The first move of each node is searched with the full window, the other ones with a null        */
+/*      window only proving they are not better, and are searched again if they turn out to be      */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Models.Zobrist;
+import com.gilleshenrard.Awele.Views.Selectable;
+
+import java.security.InvalidParameterException;
+
+public class PVSSelect extends Selectable {
+    private int m_maxDepth;
+    private SearchPlies m_plies;
+    private Point m_evalPoint;
+    private TranspositionTable m_table;
+    private long m_nodes;
+    private long m_researches;
+    private final static int INFINITE_POS = Evaluation.INFINITE_POS;
+    private final static int INFINITE_NEG = Evaluation.INFINITE_NEG;
+
+    /**
+     * Create a new Principal Variation Search selection behaviour, with a transposition table of its own (of the default size)
+     * @param controller The board controller to use
+     * @throws NullPointerException
+     */
+    public PVSSelect(BoardController controller) throws NullPointerException {
+        this(controller, new TranspositionTable(TranspositionTable.DEFAULT_MEGABYTES, TranspositionTable.Replacement.DEPTH_PREFERRED));
+    }
+
+    /**
+     * Create a new Principal Variation Search selection behaviour with a given transposition table
+     *      (scores are stored from the point of view of the player to play, so the table can only be shared with other PVSSelect)
+     * @param controller The board controller to use
+     * @param table Transposition table to use (null to search without any)
+     * @throws NullPointerException
+     */
+    public PVSSelect(BoardController controller, TranspositionTable table) throws NullPointerException {
+        super(controller);
+        this.m_evalPoint = new Point(0, 0);
+        this.m_table = table;
+        this.m_nodes = 0;
+        this.m_researches = 0;
+        this.m_maxDepth = 10;
+        this.m_plies = new SearchPlies(10);
+    }
+
+    /**
+     * Set the max depth of the tree the search will look up
+     * @param max Max depth
+     * @throws InvalidParameterException
+     */
+    public void setMaxDepth(int max) throws InvalidParameterException {
+        if (max <= 0)
+            throw new InvalidParameterException("PVSSelect.setMaxDepth() : negative or null value for max depth (" + max + ")");
+
+        this.m_maxDepth = max;
+        this.m_plies = new SearchPlies(max);
+    }
+
+    /**
+     * Set the transposition table in which remember the positions already searched
+     *      (scores are stored from the point of view of the player to play, so the table can not be shared with a MinimaxSelect)
+     * @param table Transposition table to use (null to search without any)
+     */
+    public void setTranspositionTable(TranspositionTable table) {
+        this.m_table = table;
+    }
+
+    /**
+     * Get the amount of nodes visited during the last selection (nodes searched again included)
+     * @return Amount of nodes
+     */
+    public long getNodeCount() {
+        return this.m_nodes;
+    }
+
+    /**
+     * Get the amount of null window searches which failed high and had to be searched again during the last selection
+     * @return Amount of searches done again
+     */
+    public long getResearchCount() {
+        return this.m_researches;
+    }
+
+    /**
+     * Return a flag stating the player is an AI
+     * @return true
+     */
+    @Override
+    public boolean isAI() {
+        return true;
+    }
+
+    /**
+     * Select a slot using the Principal Variation Search
+     * @return Selection, or -2 if error
+     * @throws NullPointerException
+     */
+    @Override
+    public int selectSlot() throws NullPointerException {
+        //check if there are any legal slots available
+        int bestShot = super.selectSlot();
+        if (bestShot < 0)
+            return bestShot;
+
+        this.m_nodes = 0;
+        this.m_researches = 0;
+        this.m_plies.getOrdering().clear();
+        if (this.m_table != null)
+            this.m_table.newSearch();
+
+        try {
+            MoveList moves = this.getMoves();
+            int opponent = 3 - this.getID();
+            int alpha = INFINITE_NEG;
+            int bestVal = Integer.MIN_VALUE;
+
+            //search the first root move with the full window, then try to prove the other ones are not better
+            for (int i = 0 ; i < moves.size() ; i++) {
+                this.getController().makeMove(moves, i);
+                int val;
+                if (i == 0) {
+                    val = -this.search(this.m_maxDepth, INFINITE_NEG, INFINITE_POS, opponent);
+                }
+                else {
+                    val = -this.search(this.m_maxDepth, -alpha - 1, -alpha, opponent);
+                    if (val > alpha) {
+                        this.m_researches++;
+                        val = -this.search(this.m_maxDepth, INFINITE_NEG, -alpha, opponent);
+                    }
+                }
+                this.getController().unmakeMove();
+
+                //update the best value and the best slot
+                if (val > bestVal) {
+                    bestVal = val;
+                    bestShot = moves.getSlot(i);
+                }
+                alpha = Math.max(alpha, val);
+            }
+        }
+        catch (Exception e) {
+            //undo all the moves left in the BoardController, then rethrow the exception caught
+            while (this.getController() != null && this.getController().unmakeMove() > 0){}
+            throw e;
+        }
+
+        //return the best slot
+        return bestShot + 1;
+    }
+
+    /**
+     * Search the node reached by the last move played (scores are given from the point of view of the player to play)
+     * @param depth Depth left to search
+     * @param alpha Alpha value in this pruning state
+     * @param beta Beta value in this pruning state
+     * @param side ID of the player to play
+     * @return Score of the node
+     * @throws NullPointerException
+     */
+    private int search(int depth, int alpha, int beta, int side) throws NullPointerException {
+        if (this.getController() == null)
+            throw new NullPointerException("PVSSelect.search() : Board controller is not instantiated");
+
+        this.m_nodes++;
+
+        //evaluate the current node and return its value if tree leaf reached or game won
+        int evaluation = Evaluation.evaluate(this.getController(), this.getID(), this.m_evalPoint);
+        if (depth == 0 || evaluation == INFINITE_POS || evaluation == INFINITE_NEG)
+            return (side == this.getID() ? evaluation : -evaluation);
+
+        int alphaOrigin = alpha;
+        int betaOrigin = beta;
+        long key = 0L;
+        int tableSlot = TranspositionTable.NO_SLOT;
+
+        //if the position has already been searched deep enough, use its score to narrow the window (or return it)
+        if (this.m_table != null) {
+            key = this.getController().getBoard().getHash() ^ Zobrist.getSideKey(side);
+            long entry = this.m_table.probe(key);
+            if (entry != 0L) {
+                tableSlot = TranspositionTable.getSlot(entry);
+                if (TranspositionTable.getDepth(entry) >= depth) {
+                    int score = TranspositionTable.getScore(entry);
+                    int bound = TranspositionTable.getBound(entry);
+                    if (bound == TranspositionTable.EXACT)
+                        return score;
+                    else if (bound == TranspositionTable.LOWER)
+                        alpha = Math.max(alpha, score);
+                    else
+                        beta = Math.min(beta, score);
+
+                    if (alpha >= beta)
+                        return score;
+                }
+            }
+        }
+
+        //generate the children in the order most likely to cause a cutoff
+        MoveList children = this.m_plies.getMoves(depth - 1);
+        int[] order = this.m_plies.getOrder(depth - 1);
+        int ply = this.m_maxDepth - depth;
+        this.getController().generateMoves(side, children);
+        this.m_plies.getOrdering().order(children, tableSlot, ply, order);
+
+        //a player who can not play anything loses
+        int best = INFINITE_NEG;
+        int bestSlot = TranspositionTable.NO_SLOT;
+        for (int x = 0 ; x < children.size() ; x++) {
+            int child = order[x];
+            this.getController().makeMove(children, child);
+
+            //principal variation searched with the full window, the other ones with a null window (searched again if better)
+            int score;
+            if (x == 0) {
+                score = -this.search(depth - 1, -beta, -alpha, 3 - side);
+            }
+            else {
+                score = -this.search(depth - 1, -alpha - 1, -alpha, 3 - side);
+                if (score > alpha && score < beta) {
+                    this.m_researches++;
+                    score = -this.search(depth - 1, -beta, -alpha, 3 - side);
+                }
+            }
+            this.getController().unmakeMove();
+
+            //update the best score and the window
+            if (score > best) {
+                best = score;
+                bestSlot = children.getSlot(child);
+            }
+            if (score > alpha)
+                alpha = score;
+            if (alpha >= beta) {
+                this.m_plies.getOrdering().cutoff(children, child, ply, depth);
+                break;
+            }
+        }
+
+        //remember the score, and whether it is exact or only a bound of the window searched
+        if (this.m_table != null) {
+            int bound = TranspositionTable.EXACT;
+            if (best <= alphaOrigin)
+                bound = TranspositionTable.UPPER;
+            else if (best >= betaOrigin)
+                bound = TranspositionTable.LOWER;
+
+            this.m_table.store(key, depth, best, bound, bestSlot);
+        }
+
+        return best;
+    }
+}
@@ -0,0 +1,55 @@
+/****************************************************************************************************/
+/*  Class SearchPlies                                                                               */
+/*  Buffers of a depth-first search, allocated once for a max depth so the search itself does not  */
+/*      allocate anything : the moves generated at each ply, their search order, and the killer    */
+/*      and history tables of the move ordering                                                     */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import com.gilleshenrard.Awele.Controllers.MoveList;
+
+final class SearchPlies {
+    private final MoveList[] m_moves;
+    private final int[][] m_order;
+    private final MoveOrdering m_ordering;
+
+    /**
+     * Allocate the buffers of a search
+     * @param maxDepth Max depth of the search
+     */
+    SearchPlies(int maxDepth) {
+        this.m_moves = new MoveList[maxDepth + 1];
+        for (int i = 0 ; i <= maxDepth ; i++)
+            this.m_moves[i] = new MoveList();
+        this.m_order = new int[maxDepth + 1][6];
+        this.m_ordering = new MoveOrdering(maxDepth + 1);
+    }
+
+    /**
+     * Get the list in which generate the moves of a node
+     * @param index Depth left below the node, minus one
+     * @return Move list
+     */
+    MoveList getMoves(int index) {
+        return this.m_moves[index];
+    }
+
+    /**
+     * Get the array in which write the search order of the moves of a node
+     * @param index Depth left below the node, minus one
+     * @return Search order
+     */
+    int[] getOrder(int index) {
+        return this.m_order[index];
+    }
+
+    /**
+     * Get the move ordering of the search
+     * @return Move ordering
+     */
+    MoveOrdering getOrdering() {
+        return this.m_ordering;
+    }
+}
@@ -0,0 +1,174 @@
+/****************************************************************************************************/
+/*  Class TranspositionTable                                                                        */
+/*  Fixed-size hash table remembering the positions already searched by the AI                      */
+/*  Each entry is keyed by the Zobrist hash of a position (board, stores and player to play), and   */
+/*      holds the depth searched, the score, its bound type and the best slot found                 */
+/*  Entries are stored as two longs (key XOR data, data), so a torn write from another thread is    */
+/*      detected as a miss instead of returning a wrong entry                                       */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.AI;
+
+import java.security.InvalidParameterException;
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public final static int EXACT = 1;
+    public final static int LOWER = 2;
+    public final static int UPPER = 3;
+    public final static int NO_SLOT = 7;
+    public final static int DEFAULT_MEGABYTES = 16;
+    private final static int ENTRY_SIZE = 2 * Long.BYTES;
+    private final static long VALID = 1L << 63;
+    private final Replacement m_replacement;
+    private final long[] m_keys;
+    private final long[] m_data;
+    private final int m_mask;
+    private int m_generation;
+
+    /**
+     * Policies deciding whether a new entry overwrites the one already present in its bucket
+     */
+    public enum Replacement {
+        ALWAYS,             //always keep the most recent entry
+        DEPTH_PREFERRED     //keep the deepest entry, unless it comes from a previous search
+    }
+
+    /**
+     * Create a new transposition table
+     * @param megabytes Memory budget of the table (in MB)
+     * @param replacement Replacement policy to apply when two positions share a bucket
+     * @throws InvalidParameterException
+     * @throws NullPointerException
+     */
+    public TranspositionTable(int megabytes, Replacement replacement) throws InvalidParameterException, NullPointerException {
+        if (megabytes <= 0 || megabytes > 4096)
+            throw new InvalidParameterException("TranspositionTable() : invalid memory budget (" + megabytes + " MB)");
+        if (replacement == null)
+            throw new NullPointerException("TranspositionTable() : NULL instance of Replacement");
+
+        //use the biggest power of 2 amount of entries fitting in the budget
+        long entries = Long.highestOneBit(((long)megabytes << 20) / ENTRY_SIZE);
+        entries = Math.min(entries, 1L << 30);
+
+        this.m_replacement = replacement;
+        this.m_keys = new long[(int)entries];
+        this.m_data = new long[(int)entries];
+        this.m_mask = (int)entries - 1;
+        this.m_generation = 0;
+    }
+
+    /**
+     * Get the amount of entries the table can hold
+     * @return Amount of entries
+     */
+    public int capacity() {
+        return this.m_keys.length;
+    }
+
+    /**
+     * Flag the beginning of a new search (entries of previous searches become replaceable)
+     */
+    public void newSearch() {
+        this.m_generation = (this.m_generation + 1) & 0xFF;
+    }
+
+    /**
+     * Remove all the entries of the table
+     */
+    public void clear() {
+        Arrays.fill(this.m_keys, 0L);
+        Arrays.fill(this.m_data, 0L);
+    }
+
+    /**
+     * Look for the entry of a position
+     * @param key Zobrist hash of the position
+     * @return Entry found (to read with getScore(), getDepth(), getBound() and getSlot()), or 0 if none
+     */
+    public long probe(long key) {
+        int index = (int)key & this.m_mask;
+        long data = this.m_data[index];
+
+        if ((this.m_keys[index] ^ data) != key || (data & VALID) == 0)
+            return 0L;
+
+        return data;
+    }
+
+    /**
+     * Store the result of a search in the table, according to the replacement policy
+     * @param key Zobrist hash of the position
+     * @param depth Depth searched below the position
+     * @param score Score found
+     * @param bound Type of the score (EXACT, LOWER or UPPER)
+     * @param slot Best slot found (0-5), or NO_SLOT
+     */
+    public void store(long key, int depth, int score, int bound, int slot) {
+        int index = (int)key & this.m_mask;
+
+        //depth-preferred : do not replace a deeper entry of the current search with a different position
+        if (this.m_replacement == Replacement.DEPTH_PREFERRED) {
+            long old = this.m_data[index];
+            if ((old & VALID) != 0 && getGeneration(old) == this.m_generation && getDepth(old) > depth && (this.m_keys[index] ^ old) != key)
+                return;
+        }
+
+        //pack the entry : valid (1) | generation (8) | slot (3) | bound (2) | depth (8) | score (32)
+        long data = VALID
+                | ((long)this.m_generation << 45)
+                | ((long)(slot & 0x7) << 42)
+                | ((long)(bound & 0x3) << 40)
+                | ((long)(depth & 0xFF) << 32)
+                | (score & 0xFFFFFFFFL);
+
+        this.m_data[index] = data;
+        this.m_keys[index] = key ^ data;
+    }
+
+    /**
+     * Get the score of an entry
+     * @param entry Entry returned by probe()
+     * @return Score
+     */
+    public static int getScore(long entry) {
+        return (int)entry;
+    }
+
+    /**
+     * Get the depth searched of an entry
+     * @param entry Entry returned by probe()
+     * @return Depth
+     */
+    public static int getDepth(long entry) {
+        return (int)(entry >>> 32) & 0xFF;
+    }
+
+    /**
+     * Get the bound type of an entry
+     * @param entry Entry returned by probe()
+     * @return EXACT, LOWER or UPPER
+     */
+    public static int getBound(long entry) {
+        return (int)(entry >>> 40) & 0x3;
+    }
+
+    /**
+     * Get the best slot of an entry
+     * @param entry Entry returned by probe()
+     * @return Slot (0-5), or NO_SLOT
+     */
+    public static int getSlot(long entry) {
+        return (int)(entry >>> 42) & 0x7;
+    }
+
+    /**
+     * Get the search generation of an entry
+     * @param entry Entry returned by probe()
+     * @return Generation
+     */
+    private static int getGeneration(long entry) {
+        return (int)(entry >>> 45) & 0xFF;
+    }
+}
@@ -3,11 +3,12 @@
 /*  Implements the Observer design pattern                                                          */
 /*  Provides game board JavaFX display methods, and thus communicates with the board controller     */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Views.JFX;
 
 import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.InputEvent;
 import com.gilleshenrard.Awele.Views.iObserver;
 import com.gilleshenrard.Awele.Models.Point;
 import javafx.animation.*;
@@ -207,25 +208,27 @@ public class BoardJFXView extends GridPane implements iObserver, Initializable {
         //set the flag to request the menu
         this.m_controller.setMenuRequested(true);
 
-        //notify JFXSelect that a click has been handled
-        synchronized (this.m_controller){
-            Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + this.m_controller.getCurrentPlayer() + " : sends a notification");
-            this.m_controller.notify();
-        }
+        //send the request to the game loop
+        this.sendInput(new InputEvent(InputEvent.Type.MENU));
     }
 
     /**
-     * Wait for a notification
+     * Wait for the menu to be requested, or the game to be resumed
      */
     @Override
     public void pauseSeason() {
-        synchronized (this.m_controller) {
-            try {
-                Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Game loop thread waits for a notification");
-                this.m_controller.wait();
-            }
-            catch (InterruptedException e){}
-        }
+        Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Game loop thread waits for an event");
+        this.m_controller.getInput(this.m_controller.getCurrentPlayer()).await(InputEvent.Type.MENU, InputEvent.Type.RESUME);
+    }
+
+    /**
+     * Send an event to the game loop, through the input channel of the current player
+     * @param event Event to send
+     */
+    private void sendInput(InputEvent event) {
+        Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + this.m_controller.getCurrentPlayer() + " : sends " + event);
+        if (!this.m_controller.getInput(this.m_controller.getCurrentPlayer()).offer(event))
+            Logger.getLogger(this.getClass().getName()).log(Level.WARNING, "Player " + this.m_controller.getCurrentPlayer() + " : too many events pending, " + event + " discarded");
     }
 
     /**
@@ -262,14 +265,8 @@ public class BoardJFXView extends GridPane implements iObserver, Initializable {
         //check if the current player is owner of the slot clicked
         Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + this.m_controller.getCurrentPlayer() + " : clicked on " + p);
         if (this.m_controller.isOwner(this.m_controller.getCurrentPlayer(), p)) {
-            //set the coordinates selected by the player, and play its season
-            this.m_controller.setLastSelected(p);
-
-            //notify JFXSelect that a click has been handled
-            synchronized (this.m_controller){
-                Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + this.m_controller.getCurrentPlayer() + " : sends a notification");
-                this.m_controller.notify();
-            }
+            //send the slot selected by the player to the game loop, which plays its season
+            this.sendInput(new InputEvent(InputEvent.Type.SLOT, p.getX() + 1));
         }
     }
 
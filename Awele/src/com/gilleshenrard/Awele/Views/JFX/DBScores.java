@@ -2,14 +2,19 @@
 /*  Class DBScores                                                                                  */
 /*  built solely to ease up TableView manipulations                                                 */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 21/06/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 
 package com.gilleshenrard.Awele.Views.JFX;
 
+import com.gilleshenrard.Awele.Models.GameRecord;
 import javafx.beans.property.SimpleStringProperty;
 
+import java.time.format.DateTimeFormatter;
+
 public class DBScores {
+    private final static DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private long m_id;
     private SimpleStringProperty m_time;
     private SimpleStringProperty m_clock;
     private SimpleStringProperty m_winner;
@@ -18,18 +23,23 @@ public class DBScores {
 
     /**
      * Create a new DBScores (Dataview linking values from the DB and StringProperties)
-     * @param time Date and time of the beginning of a Game
-     * @param clock Duration of a Game
-     * @param winner Name of the winner
-     * @param pl1 Amount of seeds stored by the player 1
-     * @param pl2 Amount of seeds stored by the player 2
+     * @param record Game saved in the DB
+     */
+    DBScores(GameRecord record) {
+        this.m_id = record.getID();
+        this.m_time = new SimpleStringProperty(record.getTime().format(TIME_FORMAT));
+        this.m_clock = new SimpleStringProperty(record.getClock().toString());
+        this.m_winner = new SimpleStringProperty(record.getWinner());
+        this.m_pl1 = new SimpleStringProperty(String.valueOf(record.getStoredSeeds(1)));
+        this.m_pl2 = new SimpleStringProperty(String.valueOf(record.getStoredSeeds(2)));
+    }
+
+    /**
+     * Get the ID of the Game in the DB
+     * @return ID
      */
-    DBScores(String time, String clock, String winner, String pl1, String pl2) {
-        this.m_time = new SimpleStringProperty(time);
-        this.m_clock = new SimpleStringProperty(clock);
-        this.m_winner = new SimpleStringProperty(winner);
-        this.m_pl1 = new SimpleStringProperty(pl1);
-        this.m_pl2 = new SimpleStringProperty(pl2);
+    public long getID() {
+        return this.m_id;
     }
 
     /**
@@ -3,13 +3,14 @@
 /*  Implements iNotifiable                                                                          */
 /*  Provides game JavaFX system messages methods, and thus communicates with the game controller    */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Views.JFX;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
 import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
 import com.gilleshenrard.Awele.Views.AI.RandomSelect;
+import com.gilleshenrard.Awele.Views.AI.TranspositionTable;
 import com.gilleshenrard.Awele.Views.iNotifiable;
 import javafx.application.Platform;
 import javafx.event.Event;
@@ -25,6 +26,7 @@ import javafx.stage.Stage;
 import java.io.IOException;
 import java.net.URL;
 import java.security.InvalidParameterException;
+import java.time.Duration;
 import java.util.ResourceBundle;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -118,15 +120,18 @@ public class GameJFXView extends GridPane implements Initializable, iNotifiable
             this.m_stage.sizeToScene();
         });
 
-        //make the game loop thread wait
-        synchronized (this.m_controller) {
-            try {
-                Logger.getLogger(this.getClass().getName()).log(Level.FINE, "GameJFXView.DisplayMenu() : game loop thread waiting");
-                this.m_controller.wait();
-                Logger.getLogger(this.getClass().getName()).log(Level.FINE, "GameJFXView.DisplayMenu() : game loop resumed");
-            } catch (InterruptedException e) {
-            }
-        }
+        //make the game loop thread wait until the game is resumed
+        Logger.getLogger(this.getClass().getName()).log(Level.FINE, "GameJFXView.DisplayMenu() : game loop thread waiting");
+        this.m_controller.awaitResume();
+        Logger.getLogger(this.getClass().getName()).log(Level.FINE, "GameJFXView.DisplayMenu() : game loop resumed");
+    }
+
+    /**
+     * Resume the game loop thread, waiting either in the menu or in a pause
+     */
+    private void resumeGameLoop() {
+        if (!this.m_controller.resumeGameLoop())
+            Logger.getLogger(this.getClass().getName()).log(Level.WARNING, "GameJFXView.resumeGameLoop() : too many events pending, resume discarded");
     }
 
     /**
@@ -154,16 +159,8 @@ public class GameJFXView extends GridPane implements Initializable, iNotifiable
         if (!this.m_controller.isGameOver())
             this.m_controller.startClock();
 
-        //notify the game loop thread to resume the game loop
-        synchronized (this.m_controller) {
-            this.m_controller.notify();
-            this.m_controller.getBoardController().notify();
-        }
-
-        //notify the game loop thread to resume the game loop (in the event of a pause)
-        synchronized (this.m_controller.getBoardController()) {
-            this.m_controller.getBoardController().notify();
-        }
+        //resume the game loop
+        this.resumeGameLoop();
     }
 
     /**
@@ -178,10 +175,8 @@ public class GameJFXView extends GridPane implements Initializable, iNotifiable
         this.m_controller.setRunning(false);
         this.m_stage.close();
 
-        //notify the game loop thread to resume the game loop
-        synchronized (this.m_controller) {
-            this.m_controller.notify();
-        }
+        //resume the game loop, so it can exit
+        this.resumeGameLoop();
     }
 
     /**
@@ -218,8 +213,7 @@ public class GameJFXView extends GridPane implements Initializable, iNotifiable
     private void onScoresButtonClicked(Event event) {
         Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Scores window requested");
 
-        //retrieve all the rows in the database and show the scores modal window
-        this.m_controller.selectGames();
+        //show the scores modal window (the rows are retrieved page per page while scrolling)
         this.m_dbView.show();
     }
 
@@ -244,7 +238,8 @@ public class GameJFXView extends GridPane implements Initializable, iNotifiable
                 break;
 
             case "Medium":
-                MinimaxSelect tmp = new MinimaxSelect(this.m_controller.getBoardController());
+                //a shallow search fills only a small transposition table
+                MinimaxSelect tmp = new MinimaxSelect(this.m_controller.getBoardController(), new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED));
                 tmp.setMaxDepth(4);
                 this.m_controller.setBehaviour(ID, tmp);
                 Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + ID + " : Minimax (depth 4) behaviour set");
@@ -253,8 +248,10 @@ public class GameJFXView extends GridPane implements Initializable, iNotifiable
             case "Hard":
                 tmp = new MinimaxSelect(this.m_controller.getBoardController());
                 tmp.setMaxDepth(10);
+                tmp.setTimeBudget(Duration.ofSeconds(2));
+                tmp.setThreads(Runtime.getRuntime().availableProcessors());
                 this.m_controller.setBehaviour(ID, tmp);
-                Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + ID + " : Minimax (depth 10) behaviour set");
+                Logger.getLogger(this.getClass().getName()).log(Level.FINE, "Player " + ID + " : Minimax (depth 10, 2 seconds) behaviour set");
                 break;
 
             default:
@@ -2,19 +2,21 @@
 /*  Class JFXSelect                                                                                 */
 /*  Implementation of the Strategy design pattern                                                   */
 /*  Allows a player to wait for a click on a JavaFX slot and return its value                       */
+/*  Clicks are received through the input channel of the player                                     */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Views.JFX;
 
 import com.gilleshenrard.Awele.Controllers.BoardController;
-import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Controllers.InputEvent;
 import com.gilleshenrard.Awele.Views.Selectable;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class JFXSelect extends Selectable {
+    private final static Logger LOGGER = Logger.getLogger(JFXSelect.class.getName());
 
     /**
      * Create a new JFXSelect
@@ -40,37 +42,22 @@ public class JFXSelect extends Selectable {
      */
     @Override
     public int selectSlot() {
+        //the slots clicked before the prompt (e.g. while the opponent was playing) are discarded
+        long promptStart = System.nanoTime();
+
         //check if there are any legal slots left
         int ret = super.selectSlot();
         if (ret < 0)
             return ret;
 
-        try {
-            //wait for a slot to be clicked in JFXSelect
-            synchronized (this.getController()){
-                Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + this.getController().getCurrentPlayer() + " : waiting for an event");
-                this.getController().wait();
-            }
-        }
-        catch (InterruptedException e){}
-
-        //check if a choice has been made by the player
-        Point p = this.getController().getLastSelected();
-        Logger.getLogger(this.getClass().getName()).log(Level.INFO, "Player " + this.getController().getCurrentPlayer() + " : last selected : " + p);
-        if (p == null) {
+        //wait for a slot to be clicked (or the menu to be requested)
+        LOGGER.log(Level.INFO, "Player " + this.getID() + " : waiting for an event");
+        InputEvent event = this.getController().getInput(this.getID()).await(promptStart, InputEvent.Type.SLOT, InputEvent.Type.MENU);
+        if (event == null)
             return 0;
-        }
-        else if (this.getID() == p.getY() + 1){
-            //get the last slot chosen by the player
-            ret = p.getX() + 1;
-
-            //reset the last slot selected
-            this.getController().setLastSelected(null);
 
-            //return the choice (between 0 and 6)
-            return ret;
-        }
-        else
-            return 0;
+        //return the slot chosen by the player (between 1 and 6), or 0 if menu requested
+        LOGGER.log(Level.INFO, "Player " + this.getID() + " : received " + event + " after " + this.getController().getInput(this.getID()).getLastLatency().toMillis() + "ms");
+        return event.getSlot();
     }
 }
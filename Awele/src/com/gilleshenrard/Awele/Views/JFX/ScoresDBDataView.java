@@ -1,16 +1,20 @@
 /****************************************************************************************************/
 /*  Class ScoresDBDataView                                                                          */
 /*  Provides methods to display SQLite DB values in a JFX TableView, hosted in a modal window       */
+/*  Rows are loaded page per page, the next page being retrieved when scrolling near the bottom     */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 21/06/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Views.JFX;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
-import com.gilleshenrard.Awele.Models.DBFields;
+import com.gilleshenrard.Awele.Models.GameRecord;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.control.ScrollBar;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -18,12 +22,17 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
+import java.util.List;
+
 public class ScoresDBDataView {
+    private final static int PAGE_SIZE = 100;
     private GameController m_controller;
     private Stage m_modal;
     private StackPane m_pane;
     private TableView<DBScores> m_table;
     private ObservableList<DBScores> m_data;
+    private boolean m_lastPage;
+    private ScrollBar m_scrollBar;
 
     /**
      * Create a new DB dataView stage
@@ -34,6 +43,8 @@ public class ScoresDBDataView {
 
         //create the data collection which will host all the data
         this.m_data = FXCollections.observableArrayList();
+        this.m_lastPage = false;
+        this.m_scrollBar = null;
 
         //Create the TableView in which the data will be nested
         this.m_table = new TableView<>();
@@ -50,6 +61,44 @@ public class ScoresDBDataView {
         this.m_modal.setTitle("Scores");
         this.m_modal.initModality(Modality.APPLICATION_MODAL);
         this.m_modal.setScene(new Scene(this.m_pane, 450, 450));
+
+        //once the table is displayed (and its scroll bar created), load the next page when scrolling near the bottom
+        this.m_modal.setOnShown(e -> this.watchScrollBar());
+    }
+
+    /**
+     * Find the vertical scroll bar of the TableView, and load the next page when it nears the bottom
+     */
+    private void watchScrollBar() {
+        if (this.m_scrollBar != null)
+            return;
+
+        for (Node n : this.m_table.lookupAll(".scroll-bar")) {
+            if (n instanceof ScrollBar && ((ScrollBar) n).getOrientation() == Orientation.VERTICAL) {
+                this.m_scrollBar = (ScrollBar) n;
+                this.m_scrollBar.valueProperty().addListener((obs, oldValue, newValue) -> {
+                    if (newValue.doubleValue() >= this.m_scrollBar.getMax() * 0.9)
+                        this.loadNextPage();
+                });
+                return;
+            }
+        }
+    }
+
+    /**
+     * Append the next page of games to the rows held in the ObservableList
+     */
+    private void loadNextPage() {
+        if (this.m_lastPage)
+            return;
+
+        //retrieve the games older than the last one displayed
+        long last = (this.m_data.isEmpty() ? Long.MAX_VALUE : this.m_data.get(this.m_data.size() - 1).getID());
+        List<GameRecord> page = this.m_controller.selectGames(last, PAGE_SIZE);
+        for (GameRecord r : page)
+            this.m_data.add(new DBScores(r));
+
+        this.m_lastPage = (page.size() < PAGE_SIZE);
     }
 
     /**
@@ -78,20 +127,10 @@ public class ScoresDBDataView {
      * Show the final stage as a modal window, with updated values
      */
     public void show() {
-        //clear the rows held in the ObservableList
+        //clear the rows held in the ObservableList, then fill it back with the most recent games
         this.m_data.clear();
-
-        //fill it back with each row and display all rows in the console
-        while (this.m_controller.selectNext()) {
-            DBScores row = new DBScores(this.m_controller.getField(DBFields.TIME),
-                                        this.m_controller.getField(DBFields.CLOCK),
-                                        this.m_controller.getField(DBFields.WINNER),
-                                        this.m_controller.getField(DBFields.PLAYER1),
-                                        this.m_controller.getField(DBFields.PLAYER2));
-
-            this.m_data.add(row);
-            System.out.println(row);
-        }
+        this.m_lastPage = false;
+        this.loadNextPage();
 
         //display the final stage
         this.m_modal.showAndWait();
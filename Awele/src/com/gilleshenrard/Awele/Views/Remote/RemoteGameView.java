@@ -0,0 +1,85 @@
+/****************************************************************************************************/
+/*  Class RemoteGameView                                                                            */
+/*  Implements iNotifiable and iObserver                                                            */
+/*  View of a game hosted by a server : messages are forwarded to a listener (the remote clients),  */
+/*      there is no menu to display, and the game loop ends once the game is over                   */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.Remote;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.GameController;
+import com.gilleshenrard.Awele.Views.iNotifiable;
+import com.gilleshenrard.Awele.Views.iObserver;
+
+import java.util.function.Consumer;
+
+public final class RemoteGameView implements iNotifiable, iObserver {
+    private GameController m_controller;
+    private Consumer<String> m_listener;
+
+    /**
+     * Create a new remote game view, and attach it to the game controller and its board controller
+     * @param controller Game controller to use
+     * @param listener Listener receiving the messages of the game
+     * @throws NullPointerException
+     */
+    public RemoteGameView(GameController controller, Consumer<String> listener) throws NullPointerException {
+        if (controller == null || listener == null)
+            throw new NullPointerException("RemoteGameView() : NULL instance of controller or listener");
+
+        this.m_controller = controller;
+        this.m_listener = listener;
+        controller.setView(this);
+        controller.getBoardController().attach(this);
+    }
+
+    /**
+     * Forward an error message to the listener
+     * @param msg Message to display
+     */
+    @Override
+    public void displayError(String msg) {
+        this.m_listener.accept("Error : " + msg);
+    }
+
+    /**
+     * Do nothing, as the players are set when the game is created on the server
+     */
+    @Override
+    public void displayMenu() {
+    }
+
+    /**
+     * Do nothing, as the remote clients read the board themselves
+     */
+    @Override
+    public void update() {
+    }
+
+    /**
+     * Do nothing, as the view is bound to its game controller from its creation
+     * @param controller Board controller to use
+     */
+    @Override
+    public void setController(BoardController controller) {
+    }
+
+    /**
+     * Forward a message to the listener
+     * @param msg Message to display
+     */
+    @Override
+    public void sendMessage(String msg) {
+        this.m_listener.accept(msg);
+    }
+
+    /**
+     * End the game loop, as a game over on a server is never followed by another game
+     */
+    @Override
+    public void pauseSeason() {
+        this.m_controller.setRunning(false);
+    }
+}
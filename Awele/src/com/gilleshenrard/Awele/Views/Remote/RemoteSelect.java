@@ -0,0 +1,82 @@
+/****************************************************************************************************/
+/*  Class RemoteSelect                                                                              */
+/*  Implementation of the Strategy design pattern                                                   */
+/*  Allows a remote player to select a slot by submitting it from any thread (network, tests...)    */
+/*  Slots submitted are queued without blocking the sender, and the game loop parks on the queue    */
+/*      until one arrives (no monitor held, so a virtual thread releases its carrier while waiting) */
+/*  Author : Gilles Henrard                                                                         */
+/*  Last update : 18/10/2026                                                                        */
+/****************************************************************************************************/
+package com.gilleshenrard.Awele.Views.Remote;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Views.Selectable;
+
+import java.security.InvalidParameterException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+public class RemoteSelect extends Selectable {
+    private final static Logger LOGGER = Logger.getLogger(RemoteSelect.class.getName());
+    private final static int FORFEIT = 0;
+    private LinkedBlockingQueue<Integer> m_inputs;
+
+    /**
+     * Create a new remote slot selector
+     * @param controller Board controller to use
+     */
+    public RemoteSelect(BoardController controller){
+        super(controller);
+        this.m_inputs = new LinkedBlockingQueue<>();
+    }
+
+    /**
+     * Tell if the current behaviour is an AI one or not
+     * @return false
+     */
+    @Override
+    public boolean isAI() {
+        return false;
+    }
+
+    /**
+     * Submit the slot selected by the remote player (never blocks)
+     * @param slot Slot selected (1-6)
+     * @throws InvalidParameterException
+     */
+    public void submit(int slot) throws InvalidParameterException {
+        if (slot < 1 || slot > 6)
+            throw new InvalidParameterException("RemoteSelect.submit() : invalid slot (" + slot + ")");
+
+        this.m_inputs.offer(slot);
+    }
+
+    /**
+     * Make the remote player forfeit the game, waking up the game loop if it is waiting
+     */
+    public void forfeit() {
+        this.m_inputs.offer(FORFEIT);
+    }
+
+    /**
+     * Wait for the remote player to submit a slot
+     * @return -2 if no shots available, 0 if forfeit or interrupted, Slot selected by the remote player otherwise
+     */
+    @Override
+    public int selectSlot() {
+        //check if there are any legal slots available
+        int ret = super.selectSlot();
+        if (ret < 0)
+            return ret;
+
+        try {
+            return this.m_inputs.take();
+        }
+        catch (InterruptedException e) {
+            LOGGER.log(Level.INFO, "Player " + this.getID() + " : interrupted while waiting for a slot");
+            Thread.currentThread().interrupt();
+            return FORFEIT;
+        }
+    }
+}
@@ -2,20 +2,21 @@
 /*  Abstract Class Selectable                                                                       */
 /*  Defines the base of a Strategy design pattern to choose players' behaviours on the fly          */
 /*  Author : Gilles Henrard                                                                         */
-/*  Last update : 27/05/2020                                                                        */
+/*  Last update : 18/10/2026                                                                        */
 /****************************************************************************************************/
 package com.gilleshenrard.Awele.Views;
 
 import com.gilleshenrard.Awele.Controllers.BoardController;
-import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Controllers.MoveList;
 
 import java.security.InvalidParameterException;
 import java.util.ArrayList;
 
-public abstract class Selectable {
+public abstract class Selectable implements AutoCloseable {
     private BoardController m_controller;
     private int m_id;
     private ArrayList<Integer> m_array;
+    private MoveList m_moves;
 
     /**
      * Create a new Selectable (selection behaviour base class)
@@ -27,6 +28,7 @@ public abstract class Selectable {
 
         this.m_controller = boardController;
         this.m_array = new ArrayList<>();
+        this.m_moves = new MoveList();
     }
 
     /**
@@ -46,13 +48,10 @@ public abstract class Selectable {
         //clear the array of legal slots
         this.m_array.clear();
 
-        //fill the array with legal slots available
-        Point p = new Point(0, this.m_id - 1);
-        for(int i=0 ; i<6 ; i++) {
-            p.setX(i);
-            if (this.m_controller.isLegal(p))
-                this.m_array.add(i);
-        }
+        //generate all the legal moves at once, and fill the array with their slots
+        this.m_controller.generateMoves(this.m_id, this.m_moves);
+        for(int i=0 ; i<this.m_moves.size() ; i++)
+            this.m_array.add(this.m_moves.getSlot(i));
 
         //if no slots available, return code
         if (this.m_array.size() == 0)
@@ -96,4 +95,20 @@ public abstract class Selectable {
     protected ArrayList<Integer> getLegal(){
         return this.m_array;
     }
+
+    /**
+     * Get the legal moves generated by the last selection (slots, captures and resulting boards)
+     * @return List of legal moves
+     */
+    protected MoveList getMoves(){
+        return this.m_moves;
+    }
+
+    /**
+     * Release the resources held by the behaviour (threads, tables, ...) once it is not used anymore
+     *      (nothing to release by default)
+     */
+    @Override
+    public void close(){
+    }
 }
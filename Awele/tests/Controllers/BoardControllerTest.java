@@ -1,6 +1,7 @@
 package Controllers;
 
 import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
 import com.gilleshenrard.Awele.Models.Board;
 import com.gilleshenrard.Awele.Models.Point;
 import org.junit.jupiter.api.Assertions;
@@ -667,4 +668,197 @@ public class BoardControllerTest {
             }
         }
     }
+
+    /**
+     * Check if unmakeMove() restores the board as it was before makeMove()
+     */
+    @DisplayName("makeMove() then unmakeMove() - should not fail")
+    @Test
+    void makeMove_unmakeMove_shouldnot_fail() {
+        Board backup = new Board(b.getBoard());
+        Assertions.assertEquals(0, b.makeMove(new Point(2, 0)));
+        Assertions.assertEquals(0, b.makeMove(new Point(4, 1)));
+        Assertions.assertNotEquals(backup, b.getBoard());
+        Assertions.assertEquals(1, b.unmakeMove());
+        Assertions.assertEquals(1, b.unmakeMove());
+        Assertions.assertEquals(0, b.unmakeMove());
+        Assertions.assertEquals(backup, b.getBoard());
+    }
+
+    /**
+     * Check if makeMove() does not record an illegal move
+     */
+    @DisplayName("makeMove() with an empty slot - should not fail")
+    @Test
+    void makeMove_emptySlot_shouldnot_fail() {
+        b.getBoard().setSlotSeeds(new Point(0, 0), 0);
+        Assertions.assertEquals(-2, b.makeMove(new Point(0, 0)));
+        Assertions.assertEquals(0, b.unmakeMove());
+    }
+
+    /**
+     * Check if generateMoves() only keeps the legal slots, with the same outcome as checkOutcome()
+     */
+    @DisplayName("generateMoves() - should not fail")
+    @Test
+    void generateMoves_shouldnot_fail() {
+        b.getBoard().setSlotSeeds(new Point(1, 0), 0);
+        b.getBoard().setSlotSeeds(new Point(3, 0), 3);
+        b.getBoard().setSlotSeeds(new Point(0, 1), 1);
+        MoveList moves = new MoveList();
+        Assertions.assertEquals(5, b.generateMoves(1, moves));
+        Assertions.assertEquals(1, moves.getID());
+        for (int i = 0 ; i < moves.size() ; i++) {
+            Assertions.assertNotEquals(1, moves.getSlot(i));
+            Assertions.assertEquals(b.checkOutcome(new Point(moves.getSlot(i), 0)), moves.getCaptured(i));
+        }
+    }
+
+    /**
+     * Check if makeMove() with a generated move gives the same board as playSlot()
+     */
+    @DisplayName("makeMove() with a generated move - should not fail")
+    @Test
+    void makeMove_generated_shouldnot_fail() {
+        b.getBoard().setSlotSeeds(new Point(3, 0), 3);
+        b.getBoard().setSlotSeeds(new Point(0, 1), 1);
+        BoardController b2 = new BoardController(new Board(b.getBoard()));
+        MoveList moves = new MoveList();
+        b.generateMoves(1, moves);
+        Assertions.assertEquals(moves.getSlot(3), 3);
+        Assertions.assertEquals(b2.playSlot(new Point(3, 0)), b.makeMove(moves, 3));
+        Assertions.assertEquals(b2.getBoard(), b.getBoard());
+    }
+
+    /**
+     * Check if getInput() throws an exception with an invalid ID
+     */
+    @DisplayName("getInput() with an invalid ID - should fail")
+    @Test
+    void getInput_invalidID_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            b.getInput(3);
+        });
+    }
+
+    /**
+     * Check if getInput() returns a channel of its own to each player
+     */
+    @DisplayName("getInput() - should not fail")
+    @Test
+    void getInput_shouldnot_fail() {
+        Assertions.assertNotNull(b.getInput(1));
+        Assertions.assertNotSame(b.getInput(1), b.getInput(2));
+    }
+
+    /**
+     * Seasons checked against the rules : slots 1-6 of player 1, slots 1-6 of player 2, stores, slot played (0-11), outcome
+     */
+    private final static int[][] SEASONS = {
+            {4, 4, 4, 4, 4, 4,   4, 4, 4, 4, 4, 4,   0, 0,   0,   0},     //no capture
+            {4, 4, 0, 4, 4, 4,   4, 4, 4, 4, 4, 4,   0, 0,   2,  -2},     //empty slot
+            {4, 4, 4, 4, 4, 3,   1, 2, 1, 4, 4, 4,   0, 0,   5,   7},     //capture of 3 slots
+            {4, 4, 4, 4, 4, 6,   1, 1, 1, 1, 1, 1,   0, 0,   5,  -1},     //capture of the whole row (starvation)
+            {12, 0, 0, 0, 0, 0,  1, 1, 1, 1, 1, 1,   0, 0,   0,   0},     //12 seeds, the slot played being skipped
+            {1, 2, 4, 4, 4, 4,   4, 4, 4, 4, 4, 2,   0, 0,  11,   5},     //capture by player 2
+            {0, 0, 0, 23, 0, 0,  0, 0, 0, 0, 0, 0,  12, 13,  3,   0},     //two laps, ending in the own row
+            {0, 0, 0, 0, 1, 0,   0, 0, 0, 0, 0, 0,  23, 24,  4,  -1},     //opponent left without any seed
+            {0, 0, 0, 0, 1, 1,   0, 0, 0, 0, 0, 0,  23, 23,  5,   0},     //sowing in an empty opponent row
+            {1, 1, 0, 0, 0, 0,   0, 0, 0, 0, 0, 1,  21, 24,  0,   0},     //no capture in the own row
+    };
+
+    /**
+     * Play a season one seed at a time, as the rules are written
+     * @param cells Values of the 12 slots and the 2 stores (only modified if legal)
+     * @param start Index of the slot to harvest (0-11)
+     * @return -2 if empty slot, -1 if starvation, amount captured otherwise
+     */
+    private static int referenceSeason(byte[] cells, int start) {
+        byte[] after = cells.clone();
+        int seeds = after[start];
+        if (seeds == 0)
+            return -2;
+
+        //scatter the seeds, skipping the slot harvested
+        int slot = start;
+        after[start] = 0;
+        while (seeds > 0) {
+            slot = (slot + 1) % Board.NB_SLOTS;
+            if (slot != start) {
+                after[slot]++;
+                seeds--;
+            }
+        }
+
+        //capture backwards in the opponent row
+        int opponent = (start < 6 ? 6 : 0);
+        int captured = 0;
+        while (slot >= opponent && slot < opponent + 6 && (after[slot] == 2 || after[slot] == 3)) {
+            captured += after[slot];
+            after[slot] = 0;
+            slot--;
+        }
+
+        int remaining = 0;
+        for (int i = opponent ; i < opponent + 6 ; i++)
+            remaining += after[i];
+        if (remaining == 0)
+            return -1;
+
+        after[Board.NB_SLOTS + (start < 6 ? 0 : 1)] += captured;
+        System.arraycopy(after, 0, cells, 0, Board.NB_CELLS);
+        return captured;
+    }
+
+    /**
+     * Check if playSlot(), checkOutcome() and generateMoves() give the same outcome and the same board as the rules,
+     *      on the seasons of the table and on random positions
+     */
+    @DisplayName("playSlot() against the rules - should not fail")
+    @Test
+    void playSlot_equivalence_shouldnot_fail() {
+        java.util.Random random = new java.util.Random(42);
+        MoveList moves = new MoveList();
+        byte[] cells = new byte[Board.NB_CELLS];
+        byte[] actual = new byte[Board.NB_CELLS];
+
+        for (int p = 0 ; p < SEASONS.length + 20000 ; p++) {
+            //take the position from the table first, then random ones
+            int start;
+            if (p < SEASONS.length) {
+                for (int i = 0 ; i < Board.NB_CELLS ; i++)
+                    cells[i] = (byte)SEASONS[p][i];
+                start = SEASONS[p][Board.NB_CELLS];
+            }
+            else {
+                for (int i = 0 ; i < Board.NB_SLOTS ; i++)
+                    cells[i] = (byte)(random.nextInt(4) == 0 ? 0 : random.nextInt(random.nextBoolean() ? 4 : 15));
+                cells[Board.NB_SLOTS] = 0;
+                cells[Board.NB_SLOTS + 1] = 0;
+                start = random.nextInt(Board.NB_SLOTS);
+            }
+
+            //compare each way of playing the season with the rules
+            b.getBoard().restoreState(cells, 0);
+            Point point = new Point(start % 6, start / 6);
+            int expected = referenceSeason(cells, start);
+            if (p < SEASONS.length)
+                Assertions.assertEquals(SEASONS[p][Board.NB_CELLS + 1], expected);
+            Assertions.assertEquals(expected, b.checkOutcome(point));
+
+            b.generateMoves(start / 6 + 1, moves);
+            for (int i = 0 ; i < moves.size() ; i++) {
+                if (moves.getSlot(i) == start % 6) {
+                    Assertions.assertEquals(expected, b.makeMove(moves, i));
+                    b.getBoard().saveState(actual, 0);
+                    Assertions.assertArrayEquals(cells, actual);
+                    b.unmakeMove();
+                }
+            }
+
+            Assertions.assertEquals(expected, b.playSlot(point));
+            b.getBoard().saveState(actual, 0);
+            Assertions.assertArrayEquals(cells, actual);
+        }
+    }
 }
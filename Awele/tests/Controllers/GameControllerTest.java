@@ -1,16 +1,20 @@
 package Controllers;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
-import com.gilleshenrard.Awele.Models.Game;
+import com.gilleshenrard.Awele.Controllers.PacingPolicy;
 import com.gilleshenrard.Awele.Models.Player;
 import com.gilleshenrard.Awele.Models.Point;
 import com.gilleshenrard.Awele.Views.AI.RandomSelect;
+import com.gilleshenrard.Awele.Views.iNotifiable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 public class GameControllerTest {
     GameController g = new GameController();
@@ -21,7 +25,7 @@ public class GameControllerTest {
     @DisplayName("getName() - should not fail")
     @Test
     void getName_shouldnot_fail() {
-        Game.getInstance().setPlayer(new Player(1, "Testname"));
+        g.getGame().setPlayer(new Player(1, "Testname"));
         Assertions.assertEquals(g.getName(1), "Testname");
     }
 
@@ -204,6 +208,38 @@ public class GameControllerTest {
         Assertions.assertEquals(0, g.getStoredSeeds(2));
     }
 
+    /**
+     * Check if resumeGameLoop() resumes a menu opened during the player 2's season, even after a reset
+     */
+    @DisplayName("resumeGameLoop() after a reset from the menu - should not fail")
+    @Test
+    void resumeGameLoop_reset_shouldnot_fail() throws InterruptedException {
+        CountDownLatch menuDisplayed = new CountDownLatch(1);
+        g.setView(new iNotifiable() {
+            @Override
+            public void displayError(String msg) {}
+
+            @Override
+            public void displayMenu() {
+                menuDisplayed.countDown();
+                g.awaitResume();
+            }
+        });
+
+        //open the menu on the player 2's season, then reset the game (player 1 to play) and resume it
+        g.setCurrentPlayer(2);
+        Thread loop = new Thread(g::displayMenu);
+        loop.setDaemon(true);
+        loop.start();
+        Assertions.assertTrue(menuDisplayed.await(5, TimeUnit.SECONDS));
+        g.resetGame();
+        Assertions.assertEquals(1, g.getCurrentPlayer());
+        Assertions.assertTrue(g.resumeGameLoop());
+
+        loop.join(5000);
+        Assertions.assertFalse(loop.isAlive());
+    }
+
     /**
      * Check if selectSlot() throws an exception with wrong ID
      */
@@ -221,8 +257,61 @@ public class GameControllerTest {
     @DisplayName("selectSlot() - should not fail")
     @Test
     void selectSlot_shouldnot_fail() {
-        Game.getInstance().setPlayer(new Player(2, "", new RandomSelect(g.getBoardController())));
+        g.getGame().setPlayer(new Player(2, "", new RandomSelect(g.getBoardController())));
         int ret = g.selectSlot(2);
         Assertions.assertTrue(ret > 0 && ret <= 6);
     }
+
+    /**
+     * Check if setPacing() throws an exception with a negative delay
+     */
+    @DisplayName("setPacing() with a negative delay - should fail")
+    @Test
+    void setPacing_negative_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            g.setPacing(PacingPolicy.FIXED, Duration.ofMillis(-1));
+        });
+    }
+
+    /**
+     * Check if setPacing() throws an exception with a NULL policy
+     */
+    @DisplayName("setPacing() with a NULL policy - should fail")
+    @Test
+    void setPacing_null_should_fail() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            g.setPacing(null, Duration.ZERO);
+        });
+    }
+
+    /**
+     * Check if pace() does not wait with the NONE policy
+     */
+    @DisplayName("pace() with the NONE policy - should not fail")
+    @Test
+    void pace_none_shouldnot_fail() {
+        g.setPacing(PacingPolicy.NONE, Duration.ofSeconds(1));
+        Assertions.assertEquals(Duration.ZERO, g.pace(Duration.ZERO));
+    }
+
+    /**
+     * Check if pace() only waits for the time left with the MINIMUM policy
+     */
+    @DisplayName("pace() with the MINIMUM policy - should not fail")
+    @Test
+    void pace_minimum_shouldnot_fail() {
+        g.setPacing(PacingPolicy.MINIMUM, Duration.ofMillis(50));
+        Assertions.assertEquals(Duration.ofMillis(20), g.pace(Duration.ofMillis(30)));
+        Assertions.assertEquals(Duration.ZERO, g.pace(Duration.ofMillis(80)));
+    }
+
+    /**
+     * Check if pace() always waits for the whole delay with the FIXED policy
+     */
+    @DisplayName("pace() with the FIXED policy - should not fail")
+    @Test
+    void pace_fixed_shouldnot_fail() {
+        g.setPacing(PacingPolicy.FIXED, Duration.ofMillis(20));
+        Assertions.assertEquals(Duration.ofMillis(20), g.pace(Duration.ofMillis(80)));
+    }
 }
@@ -0,0 +1,53 @@
+package Controllers;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.GameReplayer;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.MoveLog;
+import com.gilleshenrard.Awele.Models.Point;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.time.Duration;
+
+class GameReplayerTest {
+
+    /**
+     * Check if replay() rebuilds every position reached while playing
+     */
+    @DisplayName("replay() - should not fail")
+    @Test
+    void replay_shouldnot_fail() {
+        BoardController b = new BoardController(new Board());
+        MoveLog moves = new MoveLog();
+        Board[] positions = new Board[7];
+        int[] slots = {5, 6, 3, 9, 0, 11};
+
+        positions[0] = new Board(b.getBoard());
+        for (int i = 0 ; i < slots.length ; i++) {
+            int captured = b.playSlot(new Point(slots[i] % 6, slots[i] / 6));
+            Assertions.assertTrue(captured >= 0);
+            moves.add(slots[i], captured, Duration.ZERO);
+            positions[i + 1] = new Board(b.getBoard());
+        }
+
+        for (int i = 0 ; i <= slots.length ; i++)
+            Assertions.assertEquals(positions[i], GameReplayer.replay(moves, i));
+    }
+
+    /**
+     * Check if replay() throws an exception when a move does not match the capture recorded
+     */
+    @DisplayName("replay() with a mismatching move - should fail")
+    @Test
+    void replay_mismatch_should_fail() {
+        MoveLog moves = new MoveLog();
+        moves.add(5, 3, Duration.ZERO);
+
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            GameReplayer.replay(moves, 1);
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package Controllers;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.GameServer;
+import com.gilleshenrard.Awele.Views.AI.RandomSelect;
+import com.gilleshenrard.Awele.Views.Remote.RemoteSelect;
+import com.gilleshenrard.Awele.Views.Selectable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+class GameServerTest {
+    GameServer s = new GameServer(System.getProperty("java.io.tmpdir") + "/awele_server_test.sqlite");
+
+    /**
+     * Check if a game between two AIs is played until its end
+     */
+    @DisplayName("startGame() with two AIs - should not fail")
+    @Test
+    void startGame_AI_shouldnot_fail() {
+        GameServer.Session game = s.startGame("AI 1", RandomSelect::new, "AI 2", RandomSelect::new, msg -> {});
+        Assertions.assertTrue(game.await(Duration.ofSeconds(10)));
+        Assertions.assertFalse(game.getController().isRunning());
+        Assertions.assertTrue(game.getController().isGameOver());
+        s.shutdown(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Check if a remote player forfeiting ends the game
+     */
+    @DisplayName("forfeit() with a remote player - should not fail")
+    @Test
+    void forfeit_shouldnot_fail() {
+        List<String> messages = new ArrayList<>();
+        GameServer.Session game = s.startGame("Remote", RemoteSelect::new, "AI", RandomSelect::new, msg -> {
+            synchronized (messages) {
+                messages.add(msg);
+            }
+        });
+        game.submit(1, 3);
+        game.forfeit(1);
+        Assertions.assertTrue(game.await(Duration.ofSeconds(10)));
+        Assertions.assertTrue(game.getController().isGameOver());
+        synchronized (messages) {
+            Assertions.assertTrue(messages.stream().anyMatch(m -> m.contains("forfeits")));
+        }
+        s.shutdown(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Check if submit() throws an exception for a player which is not remote
+     */
+    @DisplayName("submit() with an AI player - should fail")
+    @Test
+    void submit_AI_should_fail() {
+        GameServer.Session game = s.startGame("Remote", RemoteSelect::new, "AI", RandomSelect::new, msg -> {});
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            game.submit(2, 1);
+        });
+        s.shutdown(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Check if many idle games are hosted at once, then stopped on shutdown
+     */
+    @DisplayName("startGame() with many idle games - should not fail")
+    @Test
+    void startGame_many_shouldnot_fail() {
+        List<GameServer.Session> games = new ArrayList<>();
+        for (int i = 0 ; i < 200 ; i++)
+            games.add(s.startGame("Remote 1", RemoteSelect::new, "Remote 2", RemoteSelect::new, msg -> {}));
+        Assertions.assertEquals(200, s.getActiveGames());
+
+        s.shutdown(Duration.ofSeconds(10));
+        for (GameServer.Session game : games)
+            Assertions.assertTrue(game.isOver());
+        Assertions.assertEquals(0, s.getActiveGames());
+    }
+
+    /**
+     * Check if many games between AIs, all playing at once, are played until their end
+     * (each AI forfeits after 200 moves, as two random players may sow the last seeds forever)
+     */
+    @DisplayName("startGame() with many active games - should not fail")
+    @Test
+    void startGame_manyActive_shouldnot_fail() {
+        Function<BoardController, Selectable> bounded = controller -> new RandomSelect(controller) {
+            private int m_moves = 0;
+
+            @Override
+            public int selectSlot() {
+                return (++this.m_moves > 200 ? -2 : super.selectSlot());
+            }
+        };
+
+        List<GameServer.Session> games = new ArrayList<>();
+        for (int i = 0 ; i < 1000 ; i++)
+            games.add(s.startGame("AI 1", bounded, "AI 2", bounded, msg -> {}));
+
+        for (GameServer.Session game : games) {
+            Assertions.assertTrue(game.await(Duration.ofSeconds(60)));
+            Assertions.assertTrue(game.getController().isGameOver());
+        }
+        Assertions.assertEquals(0, s.getActiveGames());
+        s.shutdown(Duration.ofSeconds(5));
+    }
+}
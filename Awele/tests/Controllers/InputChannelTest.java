@@ -0,0 +1,117 @@
+package Controllers;
+
+import com.gilleshenrard.Awele.Controllers.InputChannel;
+import com.gilleshenrard.Awele.Controllers.InputEvent;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.util.concurrent.TimeUnit;
+
+class InputChannelTest {
+    InputChannel c = new InputChannel();
+
+    /**
+     * Check if poll() returns the events in the order they have been sent
+     */
+    @DisplayName("poll() - should not fail")
+    @Test
+    void poll_shouldnot_fail() {
+        c.offer(new InputEvent(InputEvent.Type.SLOT, 3));
+        c.offer(new InputEvent(InputEvent.Type.MENU));
+        Assertions.assertEquals(2, c.size());
+        Assertions.assertEquals(3, c.poll().getSlot());
+        Assertions.assertEquals(InputEvent.Type.MENU, c.poll().getType());
+        Assertions.assertNull(c.poll());
+    }
+
+    /**
+     * Check if poll() returns null once the timeout is over
+     */
+    @DisplayName("poll() with a timeout and no event - should not fail")
+    @Test
+    void poll_timeout_shouldnot_fail() {
+        long start = System.nanoTime();
+        Assertions.assertNull(c.poll(50, TimeUnit.MILLISECONDS));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    /**
+     * Check if offer() refuses events once the channel is full
+     */
+    @DisplayName("offer() with a full channel - should not fail")
+    @Test
+    void offer_full_shouldnot_fail() {
+        int sent = 0;
+        while (c.offer(new InputEvent(InputEvent.Type.RESUME)))
+            sent++;
+        Assertions.assertEquals(16, sent);
+        c.poll();
+        Assertions.assertTrue(c.offer(new InputEvent(InputEvent.Type.RESUME)));
+    }
+
+    /**
+     * Check if await() discards the events of the other types
+     */
+    @DisplayName("await() with other events pending - should not fail")
+    @Test
+    void await_discard_shouldnot_fail() {
+        c.offer(new InputEvent(InputEvent.Type.SLOT, 1));
+        c.offer(new InputEvent(InputEvent.Type.RESUME));
+        Assertions.assertEquals(InputEvent.Type.RESUME, c.await(InputEvent.Type.RESUME).getType());
+        Assertions.assertEquals(0, c.size());
+    }
+
+    /**
+     * Check if await() discards the slots clicked before the time specified, but not the other events
+     */
+    @DisplayName("await() with stale slots pending - should not fail")
+    @Test
+    void await_stale_shouldnot_fail() throws InterruptedException {
+        c.offer(new InputEvent(InputEvent.Type.SLOT, 1));
+        c.offer(new InputEvent(InputEvent.Type.MENU));
+        c.offer(new InputEvent(InputEvent.Type.SLOT, 2));
+        Thread.sleep(1);
+        long since = System.nanoTime();
+        c.offer(new InputEvent(InputEvent.Type.SLOT, 3));
+
+        Assertions.assertEquals(InputEvent.Type.MENU, c.await(since, InputEvent.Type.SLOT, InputEvent.Type.MENU).getType());
+        Assertions.assertEquals(3, c.await(since, InputEvent.Type.SLOT, InputEvent.Type.MENU).getSlot());
+        Assertions.assertEquals(0, c.size());
+    }
+
+    /**
+     * Check if await() is woken up by an event sent from another thread
+     */
+    @DisplayName("await() with an event sent by another thread - should not fail")
+    @Test
+    void await_otherThread_shouldnot_fail() throws InterruptedException {
+        Thread producer = new Thread(() -> {
+            for (int i = 1 ; i <= 6 ; i++) {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                }
+                c.offer(new InputEvent(InputEvent.Type.SLOT, i));
+            }
+        });
+        producer.start();
+
+        for (int i = 1 ; i <= 6 ; i++)
+            Assertions.assertEquals(i, c.await(InputEvent.Type.SLOT).getSlot());
+        Assertions.assertTrue(c.getLastLatency().toMillis() < 1000);
+        producer.join();
+    }
+
+    /**
+     * Check if InputEvent() throws an exception with an invalid slot
+     */
+    @DisplayName("InputEvent() with a slot above 6 - should fail")
+    @Test
+    void InputEvent_above6_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            new InputEvent(InputEvent.Type.SLOT, 7);
+        });
+    }
+}
@@ -1,11 +1,9 @@
 package Controllers;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
-import com.gilleshenrard.Awele.FSM.PlayingState;
 import com.gilleshenrard.Awele.FSM.PromptingState;
 import com.gilleshenrard.Awele.FSM.State;
 import com.gilleshenrard.Awele.FSM.StoringState;
-import com.gilleshenrard.Awele.Models.Game;
 import com.gilleshenrard.Awele.Models.Player;
 import com.gilleshenrard.Awele.Models.Point;
 import com.gilleshenrard.Awele.Views.Console.GameConsoleView;
@@ -29,11 +27,13 @@ public class PlayingStateTest {
         g.getBoardController().getBoard().setSlotSeeds(new Point(5, 0), 4);
         g.setNextState(State.PLAYING);
         g.setCurrentPlayer(1);
-        ((PlayingState)State.PLAYING.getState()).setInput(6);
+        g.setSelection(6);
         g.setRunning(true);
         g.handleState();
         Assertions.assertEquals(true, g.isRunning());
         Assertions.assertTrue(g.getNextState().getState() instanceof StoringState);
+        Assertions.assertEquals(1, g.getGame().getMoves().size());
+        Assertions.assertEquals(5, g.getGame().getMoves().getSlot(0));
     }
 
     /**
@@ -50,7 +50,7 @@ public class PlayingStateTest {
         g.getBoardController().getBoard().setSlotSeeds(new Point(4, 1), 9);
         g.setNextState(State.PLAYING);
         g.setCurrentPlayer(1);
-        ((PlayingState)State.PLAYING.getState()).setInput(6);
+        g.setSelection(6);
         g.setRunning(true);
         g.handleState();
         Assertions.assertEquals(true, g.isRunning());
@@ -65,7 +65,7 @@ public class PlayingStateTest {
     void handleState_noCaptureStarveNoForfeit_shouldnot_fail() {
         g.getBoardController().getBoard().setStoredSeeds(1, 0);
         g.getBoardController().getBoard().setStoredSeeds(2, 0);
-        Game.getInstance().setPlayer(new Player(1, "Test", new RandomSelect(g.getBoardController())));
+        g.getGame().setPlayer(new Player(1, "Test", new RandomSelect(g.getBoardController())));
         g.getBoardController().resetBoard();
         g.getBoardController().getBoard().setSlotSeeds(new Point(0, 1), 1);
         g.getBoardController().getBoard().setSlotSeeds(new Point(1, 1), 2);
@@ -77,7 +77,7 @@ public class PlayingStateTest {
         g.setNextState(State.PLAYING);
 
         g.setCurrentPlayer(1);
-        ((PlayingState)State.PLAYING.getState()).setInput(6);
+        g.setSelection(6);
         g.setRunning(true);
         g.handleState();
         Assertions.assertEquals(true, g.isRunning());
@@ -92,8 +92,8 @@ public class PlayingStateTest {
     void handleState_selfStarvationNoForfeit_otherRow_shouldnot_fail() {
         g.getBoardController().getBoard().setStoredSeeds(1, 0);
         g.getBoardController().getBoard().setStoredSeeds(2, 0);
-        Game.getInstance().setPlayer(new Player(1, "Test", new RandomSelect(g.getBoardController())));
-        Game.getInstance().setPlayer(new Player(2, "Test", new RandomSelect(g.getBoardController())));
+        g.getGame().setPlayer(new Player(1, "Test", new RandomSelect(g.getBoardController())));
+        g.getGame().setPlayer(new Player(2, "Test", new RandomSelect(g.getBoardController())));
         g.getBoardController().getBoard().emptySlotSeeds(new Point(0, 0));
         g.getBoardController().getBoard().emptySlotSeeds(new Point(1, 0));
         g.getBoardController().getBoard().emptySlotSeeds(new Point(2, 0));
@@ -102,7 +102,7 @@ public class PlayingStateTest {
         g.getBoardController().getBoard().setSlotSeeds(new Point(5, 0), 1);
         g.setNextState(State.PLAYING);
         g.setCurrentPlayer(1);
-        ((PlayingState)State.PLAYING.getState()).setInput(6);
+        g.setSelection(6);
         g.setRunning(true);
         g.handleState();
         Assertions.assertEquals(true, g.isRunning());
@@ -117,8 +117,8 @@ public class PlayingStateTest {
     void handleState_selfStarvationNoForfeit_sameRow_shouldnot_fail() {
         g.getBoardController().getBoard().setStoredSeeds(1, 0);
         g.getBoardController().getBoard().setStoredSeeds(2, 0);
-        Game.getInstance().setPlayer(new Player(1, "Test", new RandomSelect(g.getBoardController())));
-        Game.getInstance().setPlayer(new Player(2, "Test", new RandomSelect(g.getBoardController())));
+        g.getGame().setPlayer(new Player(1, "Test", new RandomSelect(g.getBoardController())));
+        g.getGame().setPlayer(new Player(2, "Test", new RandomSelect(g.getBoardController())));
         g.getBoardController().resetBoard();
         g.getBoardController().getBoard().emptySlotSeeds(new Point(0, 0));
         g.getBoardController().getBoard().emptySlotSeeds(new Point(1, 0));
@@ -128,7 +128,7 @@ public class PlayingStateTest {
         g.getBoardController().getBoard().setSlotSeeds(new Point(5, 0), 1);
         g.setCurrentPlayer(1);
         g.setNextState(State.PLAYING);
-        ((PlayingState)State.PLAYING.getState()).setInput(5);
+        g.setSelection(5);
         g.setRunning(true);
         g.handleState();
         Assertions.assertEquals(true, g.isRunning());
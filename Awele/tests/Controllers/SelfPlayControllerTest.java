@@ -0,0 +1,74 @@
+package Controllers;
+
+import com.gilleshenrard.Awele.Controllers.SelfPlayController;
+import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
+import com.gilleshenrard.Awele.Views.AI.RandomSelect;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+
+public class SelfPlayControllerTest {
+    SelfPlayController s = new SelfPlayController(RandomSelect::new, RandomSelect::new);
+
+    /**
+     * Check if play() plays all the games requested
+     */
+    @DisplayName("play() - should not fail")
+    @Test
+    void play_shouldnot_fail() {
+        s.setThreads(2);
+        SelfPlayController.Statistics stats = s.play(200);
+        Assertions.assertEquals(200, stats.getGames());
+        Assertions.assertEquals(200, stats.getWins(1) + stats.getWins(2) + stats.getDraws());
+    }
+
+    /**
+     * Check if play() declares a draw when the max amount of plies is reached
+     */
+    @DisplayName("play() with a low max amount of plies - should not fail")
+    @Test
+    void play_maxPlies_shouldnot_fail() {
+        s.setMaxPlies(2);
+        SelfPlayController.Statistics stats = s.play(20);
+        Assertions.assertEquals(20, stats.getDraws());
+    }
+
+    /**
+     * Check if a minimax behaviour wins most of its games against a random one
+     */
+    @DisplayName("play() with minimax against random - should not fail")
+    @Test
+    void play_minimax_shouldnot_fail() {
+        SelfPlayController minimax = new SelfPlayController(c -> {
+            MinimaxSelect m = new MinimaxSelect(c);
+            m.setMaxDepth(2);
+            return m;
+        }, RandomSelect::new);
+        SelfPlayController.Statistics stats = minimax.play(20);
+        Assertions.assertTrue(stats.getWins(1) > stats.getWins(2));
+    }
+
+    /**
+     * Check if play() throws an exception with an invalid amount of games
+     */
+    @DisplayName("play() with an invalid amount of games - should fail")
+    @Test
+    void play_invalidGames_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            s.play(0);
+        });
+    }
+
+    /**
+     * Check if the constructor throws an exception with a NULL factory
+     */
+    @DisplayName("SelfPlayController() with a NULL factory - should fail")
+    @Test
+    void constructor_nullFactory_should_fail() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new SelfPlayController(null, RandomSelect::new);
+        });
+    }
+}
@@ -3,7 +3,6 @@ package Controllers;
 import com.gilleshenrard.Awele.Controllers.GameController;
 import com.gilleshenrard.Awele.FSM.PromptingState;
 import com.gilleshenrard.Awele.FSM.State;
-import com.gilleshenrard.Awele.Models.Game;
 import com.gilleshenrard.Awele.Models.Player;
 import com.gilleshenrard.Awele.Views.Console.GameConsoleView;
 import org.junit.jupiter.api.Assertions;
@@ -20,8 +19,8 @@ public class SwitchingPlayerStateTest {
     void handleState_shouldnot_fail() {
         GameController g = new GameController();
         GameConsoleView gv = new GameConsoleView(g);
-        Game.getInstance().setPlayer(new Player(1, "Test"));
-        Game.getInstance().setPlayer(new Player(2, "Test"));
+        g.getGame().setPlayer(new Player(1, "Test"));
+        g.getGame().setPlayer(new Player(2, "Test"));
         Assertions.assertEquals(1, g.getCurrentPlayer());
         g.setNextState(State.SWITCHING);
         g.handleState();
@@ -0,0 +1,160 @@
+package Models;
+
+import com.gilleshenrard.Awele.Models.BinaryGameLog;
+import com.gilleshenrard.Awele.Models.Game;
+import com.gilleshenrard.Awele.Models.GameRecord;
+import com.gilleshenrard.Awele.Models.Player;
+import com.gilleshenrard.Awele.Models.PlayerStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.List;
+
+class BinaryGameLogTest {
+    Game g = new Game();
+    @TempDir
+    Path directory;
+
+    /**
+     * Open a log with segments of 2 records
+     * @param directory Directory of the log
+     * @return Log opened
+     */
+    private BinaryGameLog open(Path directory) {
+        BinaryGameLog log = new BinaryGameLog();
+        log.setPath(directory.toString());
+        log.setSegmentRecords(2);
+        log.connect();
+
+        return log;
+    }
+
+    /**
+     * Save a game won by a player
+     * @param log Log in which save the game
+     * @param winner ID of the winner
+     * @param seeds Seeds stored by the winner
+     */
+    private void save(BinaryGameLog log, int winner, int seeds) {
+        g.getBoard().setStoredSeeds(winner, seeds);
+        g.getBoard().setStoredSeeds(3 - winner, 48 - seeds);
+        log.saveGame(g, winner);
+    }
+
+    /**
+     * Check if selectGames() reads the games saved, the most recent first, across several segments
+     */
+    @DisplayName("selectGames() - should not fail")
+    @Test
+    void selectGames_shouldnot_fail() throws IOException {
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+
+        BinaryGameLog log = this.open(directory);
+        for (int i = 0 ; i < 5 ; i++)
+            this.save(log, 1, 25 + i);
+        log.close();
+
+        log = this.open(directory);
+        List<GameRecord> page = log.selectGames(Long.MAX_VALUE, 3);
+        Assertions.assertEquals(3, page.size());
+        Assertions.assertEquals(5, page.get(0).getID());
+        Assertions.assertEquals(29, page.get(0).getStoredSeeds(1));
+        Assertions.assertEquals("Test2", page.get(0).getName(2));
+        Assertions.assertEquals(g.getTime().withNano(0), page.get(0).getTime());
+        Assertions.assertEquals(2, log.selectGames(page.get(2).getID(), 3).size());
+        Assertions.assertTrue(Files.exists(directory.resolve("games-000002.log")));
+        log.close();
+    }
+
+    /**
+     * Check if selectLeaderboard() aggregates the results of each player
+     */
+    @DisplayName("selectLeaderboard() - should not fail")
+    @Test
+    void selectLeaderboard_shouldnot_fail() throws IOException {
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+
+        BinaryGameLog log = this.open(directory);
+        this.save(log, 1, 25);
+        this.save(log, 2, 30);
+        this.save(log, 2, 26);
+        List<PlayerStats> players = log.selectLeaderboard(10);
+        log.close();
+
+        Assertions.assertEquals(2, players.size());
+        Assertions.assertEquals("Test2", players.get(0).getName());
+        Assertions.assertEquals(2, players.get(0).getWins());
+        Assertions.assertEquals(1, players.get(0).getLosses());
+        Assertions.assertEquals(23 + 30 + 26, players.get(0).getSeeds());
+    }
+
+    /**
+     * Check if connect() drops a record partially written before a crash
+     */
+    @DisplayName("connect() with a partial record - should not fail")
+    @Test
+    void connect_partialRecord_shouldnot_fail() throws IOException {
+        Files.write(directory.resolve("games-000000.log"), new byte[BinaryGameLog.RECORD_SIZE / 2]);
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+
+        BinaryGameLog log = this.open(directory);
+        this.save(log, 1, 25);
+        log.close();
+
+        Assertions.assertEquals(BinaryGameLog.RECORD_SIZE, Files.size(directory.resolve("games-000000.log")));
+    }
+
+    /**
+     * Check if saveGame() keeps the games already saved when the next segment can not be created
+     */
+    @DisplayName("saveGame() with a segment failing to open - should not fail")
+    @Test
+    void saveGame_segmentFailure_shouldnot_fail() throws IOException {
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+
+        //a directory in place of the second segment makes its creation fail
+        BinaryGameLog log = this.open(directory);
+        Path blocker = Files.createDirectory(directory.resolve("games-000001.log"));
+        this.save(log, 1, 25);
+        this.save(log, 1, 26);
+        this.save(log, 1, 27);
+
+        //once the segment can be created, the games are saved again (the one which failed is lost)
+        Files.delete(blocker);
+        this.save(log, 1, 28);
+        log.close();
+
+        log = this.open(directory);
+        List<GameRecord> page = log.selectGames(Long.MAX_VALUE, 10);
+        Assertions.assertEquals(3, page.size());
+        Assertions.assertEquals(28, page.get(0).getStoredSeeds(1));
+        Assertions.assertEquals(25, page.get(2).getStoredSeeds(1));
+        log.close();
+    }
+
+    /**
+     * Check if selectGames() throws an exception with a null limit
+     */
+    @DisplayName("selectGames() with a null limit - should fail")
+    @Test
+    void selectGames_nullLimit_should_fail() {
+        BinaryGameLog log = new BinaryGameLog();
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            log.selectGames(Long.MAX_VALUE, 0);
+        });
+    }
+}
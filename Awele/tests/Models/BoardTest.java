@@ -569,4 +569,66 @@ class BoardTest {
         Assertions.assertEquals(3, b.getFinalSeeds(new Point(3, 0), b.getSubsequent(new Point(3, 0), 6), new Point(4, 1), 6));
         Assertions.assertEquals(1, b.getFinalSeeds(new Point(3, 0), b.getSubsequent(new Point(3, 0), 6), new Point(5, 1), 6));
     }
+
+    /**
+     * Check if copy() duplicates the slots and the stored seeds
+     */
+    @DisplayName("copy() - should not fail")
+    @Test
+    void copy_shouldnot_fail() {
+        b.setSlotSeeds(new Point(3, 1), 7);
+        b.setStoredSeeds(2, 12);
+        Board b2 = new Board(b);
+        Assertions.assertEquals(7, b2.getSlotSeeds(new Point(3, 1)));
+        Assertions.assertEquals(12, b2.getStoredSeeds(2));
+        Assertions.assertEquals(b, b2);
+        Assertions.assertEquals(b.hashCode(), b2.hashCode());
+    }
+
+    /**
+     * Check if equals() tells apart boards differing by one slot
+     */
+    @DisplayName("equals() with a different slot - should not fail")
+    @Test
+    void equals_differentSlot_shouldnot_fail() {
+        Board b2 = new Board(b);
+        b2.emptySlotSeeds(new Point(5, 0));
+        Assertions.assertNotEquals(b, b2);
+    }
+
+    /**
+     * Check if getHash() only depends on the board values, not on the order in which they were set
+     */
+    @DisplayName("getHash() after several updates - should not fail")
+    @Test
+    void getHash_updates_shouldnot_fail() {
+        long initial = b.getHash();
+        Board b2 = new Board();
+        b.setSlotSeeds(new Point(1, 0), 9);
+        b.emptySlotSeeds(new Point(4, 1));
+        b.setStoredSeeds(1, 6);
+        b2.setStoredSeeds(1, 6);
+        b2.emptySlotSeeds(new Point(4, 1));
+        b2.setSlotSeeds(new Point(1, 0), 9);
+        Assertions.assertNotEquals(initial, b.getHash());
+        Assertions.assertEquals(b2.getHash(), b.getHash());
+        b.reset();
+        Assertions.assertEquals(initial, b.getHash());
+    }
+
+    /**
+     * Check if restoreState() restores the hash along with the board values
+     */
+    @DisplayName("getHash() after restoreState() - should not fail")
+    @Test
+    void getHash_restoreState_shouldnot_fail() {
+        byte[] buffer = new byte[Board.NB_CELLS];
+        long initial = b.getHash();
+        b.saveState(buffer, 0);
+        b.setSlotSeeds(new Point(2, 1), 0);
+        b.setStoredSeeds(2, 4);
+        b.restoreState(buffer, 0);
+        Assertions.assertEquals(initial, b.getHash());
+        Assertions.assertEquals(new Board(), b);
+    }
 }
@@ -0,0 +1,195 @@
+package Models;
+
+import com.gilleshenrard.Awele.Models.ConnectionPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConnectionPoolTest {
+    @TempDir
+    Path m_dir;
+
+    /**
+     * Get the JDBC URL of a database in the temporary directory
+     * @return JDBC URL
+     */
+    private String url() {
+        return "jdbc:sqlite:" + this.m_dir.resolve("test.db");
+    }
+
+    /**
+     * Check if ConnectionPool() does not open any connection before the first one is borrowed
+     */
+    @DisplayName("ConnectionPool() - should not fail")
+    @Test
+    void ConnectionPool_shouldnot_fail() {
+        ConnectionPool p = new ConnectionPool("jdbc:sqlite:test.db", 4, Duration.ofSeconds(1), c -> {});
+
+        Assertions.assertEquals(0, p.getOpened());
+        p.close();
+    }
+
+    /**
+     * Check if ConnectionPool() throws an exception with a null size
+     */
+    @DisplayName("ConnectionPool() with a null size - should fail")
+    @Test
+    void ConnectionPool_nullSize_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            new ConnectionPool("jdbc:sqlite:test.db", 0, Duration.ofSeconds(1), c -> {});
+        });
+    }
+
+    /**
+     * Check if borrow() throws an exception once the pool is closed
+     */
+    @DisplayName("borrow() with the pool closed - should fail")
+    @Test
+    void borrow_closed_should_fail() {
+        ConnectionPool p = new ConnectionPool("jdbc:sqlite:test.db", 4, Duration.ofSeconds(1), c -> {});
+        p.close();
+
+        Assertions.assertThrows(SQLException.class, p::borrow);
+    }
+
+    /**
+     * Check if borrow() opens a working connection, and reuses it once given back
+     */
+    @DisplayName("borrow() and close() - should not fail")
+    @Test
+    void borrow_reuse_shouldnot_fail() throws SQLException {
+        try (ConnectionPool p = new ConnectionPool(url(), 2, Duration.ofSeconds(1), c -> {})) {
+            ConnectionPool.PooledConnection first = p.borrow();
+            PreparedStatement statement = first.prepare("SELECT 42");
+            try (ResultSet r = statement.executeQuery()) {
+                Assertions.assertTrue(r.next());
+                Assertions.assertEquals(42, r.getInt(1));
+            }
+            first.close();
+
+            //the connection given back is lent again, with its statements still prepared
+            ConnectionPool.PooledConnection second = p.borrow();
+            Assertions.assertSame(first, second);
+            Assertions.assertSame(statement, second.prepare("SELECT 42"));
+            Assertions.assertEquals(1, p.getOpened());
+
+            //a second connection is only opened while the first one is lent
+            ConnectionPool.PooledConnection third = p.borrow();
+            Assertions.assertNotSame(second, third);
+            Assertions.assertEquals(2, p.getOpened());
+            second.close();
+            third.close();
+        }
+    }
+
+    /**
+     * Check if borrow() waits for a connection to be given back when all are lent
+     */
+    @DisplayName("borrow() with all the connections lent - should not fail")
+    @Test
+    void borrow_wait_shouldnot_fail() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (ConnectionPool p = new ConnectionPool(url(), 1, Duration.ofSeconds(5), c -> {})) {
+            ConnectionPool.PooledConnection lent = p.borrow();
+            Future<ConnectionPool.PooledConnection> waiting = executor.submit(p::borrow);
+
+            Thread.sleep(50);
+            Assertions.assertFalse(waiting.isDone());
+            lent.close();
+            Assertions.assertSame(lent, waiting.get(5, TimeUnit.SECONDS));
+            Assertions.assertEquals(1, p.getOpened());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Check if borrow() throws an exception when no connection is given back before the timeout
+     */
+    @DisplayName("borrow() with a timeout - should fail")
+    @Test
+    void borrow_timeout_should_fail() throws SQLException {
+        try (ConnectionPool p = new ConnectionPool(url(), 1, Duration.ofMillis(50), c -> {})) {
+            ConnectionPool.PooledConnection lent = p.borrow();
+            long start = System.nanoTime();
+            Assertions.assertThrows(SQLException.class, p::borrow);
+            Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+            lent.close();
+        }
+    }
+
+    /**
+     * Check if borrow() never opens more connections than the max, with several threads borrowing at once
+     */
+    @DisplayName("borrow() with concurrent threads - should not fail")
+    @Test
+    void borrow_concurrent_shouldnot_fail() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger lent = new AtomicInteger(0);
+        AtomicInteger maxLent = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ConnectionPool p = new ConnectionPool(url(), 3, Duration.ofSeconds(10), c -> {})) {
+            Future<?>[] tasks = new Future<?>[8];
+            for (int t = 0 ; t < tasks.length ; t++) {
+                tasks[t] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0 ; i < 50 ; i++) {
+                        try (ConnectionPool.PooledConnection c = p.borrow()) {
+                            maxLent.accumulateAndGet(lent.incrementAndGet(), Math::max);
+                            try (ResultSet r = c.prepare("SELECT 1").executeQuery()) {
+                                r.next();
+                            }
+                            lent.decrementAndGet();
+                        }
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> t : tasks)
+                t.get(30, TimeUnit.SECONDS);
+
+            Assertions.assertTrue(p.getOpened() <= 3);
+            Assertions.assertTrue(maxLent.get() <= 3);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Check if a connection failing its setup gives its reservation back
+     */
+    @DisplayName("borrow() with a failing setup - should fail")
+    @Test
+    void borrow_setup_should_fail() throws SQLException {
+        AtomicInteger attempts = new AtomicInteger(0);
+        try (ConnectionPool p = new ConnectionPool(url(), 1, Duration.ofMillis(50), c -> {
+            if (attempts.incrementAndGet() == 1)
+                throw new SQLException("setup failed");
+        })) {
+            Assertions.assertThrows(SQLException.class, p::borrow);
+            Assertions.assertEquals(0, p.getOpened());
+
+            //the slot is free again, so the next borrow opens a connection instead of timing out
+            p.borrow().close();
+            Assertions.assertEquals(1, p.getOpened());
+        }
+    }
+}
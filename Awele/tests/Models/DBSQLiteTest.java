@@ -0,0 +1,320 @@
+package Models;
+
+import com.gilleshenrard.Awele.Models.DBSQLite;
+import com.gilleshenrard.Awele.Models.Game;
+import com.gilleshenrard.Awele.Models.GameRecord;
+import com.gilleshenrard.Awele.Models.MoveLog;
+import com.gilleshenrard.Awele.Models.Player;
+import com.gilleshenrard.Awele.Models.PlayerStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+class DBSQLiteTest {
+    Game g = new Game();
+    DBSQLite db = new DBSQLite();
+    @TempDir
+    Path directory;
+
+    /**
+     * Set the players of the game saved, and the path of the database
+     */
+    @BeforeEach
+    void setUp() {
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+        db.setPath(directory.resolve("test.sqlite").toString());
+    }
+
+    /**
+     * Close the database (does nothing if already closed)
+     */
+    @AfterEach
+    void tearDown() {
+        db.close();
+    }
+
+    /**
+     * Save a game won by a player
+     * @param winner ID of the winner
+     * @param seeds Seeds stored by the winner
+     */
+    private void save(int winner, int seeds) {
+        g.getBoard().setStoredSeeds(winner, seeds);
+        g.getBoard().setStoredSeeds(3 - winner, 48 - seeds);
+        db.saveGame(g, winner);
+    }
+
+    /**
+     * Run a query returning a single number on a connection of its own (bypassing the writer and the pool)
+     * @param query SQL query
+     * @return Number selected
+     * @throws SQLException
+     */
+    private long query(String query) throws SQLException {
+        try (Connection c = DriverManager.getConnection("jdbc:sqlite:" + directory.resolve("test.sqlite"));
+             Statement s = c.createStatement();
+             ResultSet r = s.executeQuery(query)) {
+            return (r.next() ? r.getLong(1) : -1);
+        }
+    }
+
+    /**
+     * Check if the writer writes each batch as soon as it is full, and keeps the others until the flush interval
+     */
+    @DisplayName("saveGame() with full batches - should not fail")
+    @Test
+    void saveGame_batches_shouldnot_fail() throws Exception {
+        db.setBatchSize(10);
+        db.setFlushInterval(Duration.ofMinutes(1));
+        db.connect();
+
+        for (int i = 0 ; i < 25 ; i++)
+            this.save(1, 25);
+
+        //the two full batches are written, the last 5 games wait for the flush interval
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (this.query("SELECT count(*) FROM Game;") < 20 && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        Thread.sleep(100);
+        Assertions.assertEquals(20, this.query("SELECT count(*) FROM Game;"));
+    }
+
+    /**
+     * Check if flush() returns once all the games queued are written
+     */
+    @DisplayName("flush() - should not fail")
+    @Test
+    void flush_shouldnot_fail() throws SQLException {
+        db.setBatchSize(1000);
+        db.setFlushInterval(Duration.ofMinutes(1));
+        db.connect();
+
+        for (int i = 0 ; i < 25 ; i++)
+            this.save(2, 30);
+        db.flush();
+        Assertions.assertEquals(25, this.query("SELECT count(*) FROM Game;"));
+
+        //nothing left to write : returns immediately
+        db.flush();
+        Assertions.assertEquals(25, this.query("SELECT count(*) FROM Game;"));
+    }
+
+    /**
+     * Check if close() writes all the games still queued before closing
+     */
+    @DisplayName("close() with games queued - should not fail")
+    @Test
+    void close_pending_shouldnot_fail() throws SQLException {
+        db.setBatchSize(7);
+        db.setFlushInterval(Duration.ofMinutes(1));
+        db.connect();
+
+        for (int i = 0 ; i < 30 ; i++)
+            this.save(1, 25);
+        db.close();
+        Assertions.assertEquals(30, this.query("SELECT count(*) FROM Game;"));
+
+        //games saved once closed are refused
+        this.save(1, 25);
+        Assertions.assertEquals(30, this.query("SELECT count(*) FROM Game;"));
+    }
+
+    /**
+     * Check if connect() creates the tables and their indexes, and journals the database in WAL mode
+     */
+    @DisplayName("connect() with a new database - should not fail")
+    @Test
+    void connect_schema_shouldnot_fail() throws SQLException {
+        db.connect();
+
+        Assertions.assertEquals(3, this.query("SELECT count(*) FROM sqlite_master WHERE type = 'table' AND name IN ('Game', 'PlayerStats', 'GameMoves');"));
+        Assertions.assertEquals(3, this.query("SELECT count(*) FROM sqlite_master WHERE type = 'index' AND sql IS NOT NULL;"));
+        Assertions.assertEquals(1, this.query("SELECT count(*) FROM pragma_journal_mode WHERE journal_mode = 'wal';"));
+    }
+
+    /**
+     * Check if connect() keeps the games of an existing database
+     */
+    @DisplayName("connect() with an existing database - should not fail")
+    @Test
+    void connect_existing_shouldnot_fail() throws SQLException {
+        db.connect();
+        this.save(1, 25);
+        db.close();
+
+        db = new DBSQLite();
+        db.setPath(directory.resolve("test.sqlite").toString());
+        db.connect();
+        this.save(2, 30);
+        db.flush();
+        Assertions.assertEquals(2, this.query("SELECT count(*) FROM Game;"));
+        Assertions.assertEquals(2, db.selectGames(Long.MAX_VALUE, 10).size());
+    }
+
+    /**
+     * Check if the moves of each game are attached to its row, in batches and after reconnecting to an existing database
+     */
+    @DisplayName("selectMoves() - should not fail")
+    @Test
+    void selectMoves_shouldnot_fail() throws SQLException {
+        db.setBatchSize(4);
+        db.connect();
+        for (int i = 1 ; i <= 10 ; i++) {
+            g.getMoves().add(i % 6, 0, Duration.ZERO);
+            this.save(1, 25);
+        }
+        db.close();
+
+        db = new DBSQLite();
+        db.setPath(directory.resolve("test.sqlite").toString());
+        db.connect();
+        for (int i = 11 ; i <= 13 ; i++) {
+            g.getMoves().add(i % 6, 0, Duration.ZERO);
+            this.save(2, 30);
+        }
+        db.flush();
+
+        //the game saved with N moves recorded holds them all
+        Assertions.assertEquals(13, this.query("SELECT count(*) FROM GameMoves;"));
+        List<GameRecord> games = db.selectGames(Long.MAX_VALUE, 20);
+        Assertions.assertEquals(13, games.size());
+        for (GameRecord r : games) {
+            MoveLog moves = db.selectMoves(r.getID());
+            Assertions.assertNotNull(moves);
+            Assertions.assertEquals(r.getID(), moves.size());
+            Assertions.assertEquals((int)(r.getID() % 6), moves.getSlot(moves.size() - 1));
+        }
+    }
+
+    /**
+     * Check if selectGames() reads all the games page by page, the most recent first, without skipping or repeating any
+     */
+    @DisplayName("selectGames() - should not fail")
+    @Test
+    void selectGames_shouldnot_fail() {
+        db.connect();
+        for (int i = 0 ; i < 23 ; i++)
+            this.save(1, 25 + i % 20);
+
+        //the first page flushes the games queued
+        List<GameRecord> page = db.selectGames(Long.MAX_VALUE, 10);
+        Assertions.assertEquals(10, page.size());
+        Assertions.assertEquals(23, page.get(0).getID());
+        Assertions.assertEquals(25 + 22 % 20, page.get(0).getStoredSeeds(1));
+        Assertions.assertEquals(48 - 25 - 22 % 20, page.get(0).getStoredSeeds(2));
+        Assertions.assertEquals(g.getTime().withNano(0), page.get(0).getTime());
+
+        //each following page starts right after the last game of the previous one
+        long expected = 23;
+        int total = 0;
+        while (!page.isEmpty()) {
+            for (GameRecord r : page)
+                Assertions.assertEquals(expected--, r.getID());
+            total += page.size();
+            page = db.selectGames(page.get(page.size() - 1).getID(), 10);
+        }
+        Assertions.assertEquals(23, total);
+    }
+
+    /**
+     * Check if selectGames() throws an exception with a null limit
+     */
+    @DisplayName("selectGames() with a null limit - should fail")
+    @Test
+    void selectGames_nullLimit_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            db.selectGames(Long.MAX_VALUE, 0);
+        });
+    }
+
+    /**
+     * Check if the statistics of each player add up the games saved, across several transactions
+     */
+    @DisplayName("selectPlayerStats() - should not fail")
+    @Test
+    void selectPlayerStats_shouldnot_fail() throws SQLException {
+        db.setBatchSize(2);
+        db.connect();
+        this.save(1, 25);
+        this.save(2, 30);
+        this.save(2, 26);
+        db.flush();
+        this.save(1, 40);
+
+        //Test1 : won 25 and 40, lost with 48 - 30 and 48 - 26
+        PlayerStats stats = db.selectPlayerStats("Test1");
+        Assertions.assertEquals(2, stats.getWins());
+        Assertions.assertEquals(2, stats.getLosses());
+        Assertions.assertEquals(25 + 18 + 22 + 40, stats.getSeeds());
+
+        //the duration is the total of the clocks of the games
+        long seconds = 0;
+        for (GameRecord r : db.selectGames(Long.MAX_VALUE, 10))
+            seconds += r.getClock().toSecondOfDay();
+        Assertions.assertEquals(seconds, this.query("SELECT duration FROM PlayerStats WHERE name = 'Test1';"));
+
+        Assertions.assertNull(db.selectPlayerStats("Unknown"));
+    }
+
+    /**
+     * Check if selectLeaderboard() lists the players with the most wins first, then the fewest losses
+     */
+    @DisplayName("selectLeaderboard() - should not fail")
+    @Test
+    void selectLeaderboard_shouldnot_fail() {
+        db.connect();
+        this.save(2, 30);
+        this.save(2, 26);
+        this.save(1, 25);
+
+        //a third player, with as many wins as Test1 but fewer losses
+        g.setPlayer(new Player(1, "Test3"));
+        this.save(1, 28);
+
+        List<PlayerStats> players = db.selectLeaderboard(10);
+        Assertions.assertEquals(3, players.size());
+        Assertions.assertEquals("Test2", players.get(0).getName());
+        Assertions.assertEquals(2, players.get(0).getWins());
+        Assertions.assertEquals(2, players.get(0).getLosses());
+        Assertions.assertEquals("Test3", players.get(1).getName());
+        Assertions.assertEquals("Test1", players.get(2).getName());
+        Assertions.assertEquals(1, db.selectLeaderboard(1).size());
+    }
+
+    /**
+     * Check if setBatchSize() throws an exception with a null size
+     */
+    @DisplayName("setBatchSize() with a null size - should fail")
+    @Test
+    void setBatchSize_zero_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            db.setBatchSize(0);
+        });
+    }
+
+    /**
+     * Check if setFlushInterval() throws an exception with a NULL interval
+     */
+    @DisplayName("setFlushInterval() with a NULL interval - should fail")
+    @Test
+    void setFlushInterval_null_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            db.setFlushInterval(null);
+        });
+    }
+}
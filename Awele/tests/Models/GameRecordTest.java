@@ -0,0 +1,80 @@
+package Models;
+
+import com.gilleshenrard.Awele.Models.Game;
+import com.gilleshenrard.Awele.Models.GameRecord;
+import com.gilleshenrard.Awele.Models.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+class GameRecordTest {
+    Game g = new Game();
+
+    /**
+     * Check if GameRecord() takes a snapshot of the game values
+     */
+    @DisplayName("GameRecord() - should not fail")
+    @Test
+    void GameRecord_shouldnot_fail() {
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+        g.getBoard().setStoredSeeds(1, 25);
+        g.getBoard().setStoredSeeds(2, 12);
+        GameRecord r = new GameRecord(g, 1);
+
+        g.reset();
+        Assertions.assertEquals("Test1", r.getWinner());
+        Assertions.assertEquals(25, r.getStoredSeeds(1));
+        Assertions.assertEquals(12, r.getStoredSeeds(2));
+        Assertions.assertEquals(g.getTime(), r.getTime());
+        Assertions.assertEquals(0, r.getID());
+        Assertions.assertEquals("Test2", r.getName(2));
+        Assertions.assertEquals(1, r.getWinnerID());
+    }
+
+    /**
+     * Check if GameRecord() keeps the ID of a game read from the database
+     */
+    @DisplayName("GameRecord() with an ID - should not fail")
+    @Test
+    void GameRecord_ID_shouldnot_fail() {
+        GameRecord r = new GameRecord(42, LocalDateTime.now(), LocalTime.of(0, 3, 12), "Test1", 25, 12);
+
+        Assertions.assertEquals(42, r.getID());
+        Assertions.assertEquals(LocalTime.of(0, 3, 12), r.getClock());
+        Assertions.assertNull(r.getName(1));
+        Assertions.assertEquals(0, r.getWinnerID());
+    }
+
+    /**
+     * Check if GameRecord() throws an exception when the game has not started
+     */
+    @DisplayName("GameRecord() with a game not started - should fail")
+    @Test
+    void GameRecord_notStarted_should_fail() {
+        g.setPlayer(new Player(1, "Test1"));
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new GameRecord(g, 1);
+        });
+    }
+
+    /**
+     * Check if getStoredSeeds() throws an exception with an invalid ID
+     */
+    @DisplayName("getStoredSeeds() with an invalid ID - should fail")
+    @Test
+    void getStoredSeeds_invalidID_should_fail() {
+        g.setPlayer(new Player(1, "Test1"));
+        g.setPlayer(new Player(2, "Test2"));
+        g.setTimeNow();
+        GameRecord r = new GameRecord(g, 1);
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            r.getStoredSeeds(3);
+        });
+    }
+}
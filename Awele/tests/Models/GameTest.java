@@ -10,7 +10,7 @@ import org.junit.jupiter.api.Test;
 import java.security.InvalidParameterException;
 
 class GameTest {
-    Game g = Game.getInstance();
+    Game g = new Game();
 
     /**
      * Check if validateID() throws an exception with an ID different than 1 or 2
@@ -89,13 +89,18 @@ class GameTest {
     }
 
     /**
-     * Check if getInstance() returns the right instance of Game
+     * Check if two games do not share their players nor their board
      */
-    @DisplayName("getInstance() - should not fail")
+    @DisplayName("Game() with two instances - should not fail")
     @Test
-    void getInstance_shouldnot_fail() {
-        Game g2 = Game.getInstance();
-        Assertions.assertEquals(g.getInstance(), g2.getInstance());
-        Assertions.assertEquals(g, g2);
+    void Game_independent_shouldnot_fail() {
+        Game g2 = new Game();
+        g.setPlayer(new Player(1, "Test1"));
+        g2.setPlayer(new Player(1, "Test2"));
+        g2.getBoard().setStoredSeeds(1, 10);
+        Assertions.assertEquals("Test1", g.getName(1));
+        Assertions.assertEquals("Test2", g2.getName(1));
+        Assertions.assertEquals(0, g.getBoard().getStoredSeeds(1));
+        Assertions.assertNotSame(g.getBoard(), g2.getBoard());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package Models;
+
+import com.gilleshenrard.Awele.Models.MoveLog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.time.Duration;
+
+class MoveLogTest {
+    MoveLog m = new MoveLog();
+
+    /**
+     * Check if add() packs the slot and the amount captured, and keeps the think time
+     */
+    @DisplayName("add() - should not fail")
+    @Test
+    void add_shouldnot_fail() {
+        m.add(11, 15, Duration.ofMillis(1234));
+
+        Assertions.assertEquals(1, m.size());
+        Assertions.assertEquals(11, m.getSlot(0));
+        Assertions.assertEquals(15, m.getCaptured(0));
+        Assertions.assertEquals(Duration.ofMillis(1234), m.getThinkTime(0));
+    }
+
+    /**
+     * Check if add() throws an exception with an invalid slot
+     */
+    @DisplayName("add() with an invalid slot - should fail")
+    @Test
+    void add_invalidSlot_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            m.add(12, 0, Duration.ZERO);
+        });
+    }
+
+    /**
+     * Check if fromBytes() restores the moves serialised with toBytes()
+     */
+    @DisplayName("fromBytes() - should not fail")
+    @Test
+    void fromBytes_shouldnot_fail() {
+        for (int i = 0 ; i < 200 ; i++)
+            m.add(i % 12, i % 4, Duration.ofMillis(i * 1000));
+
+        byte[] bytes = m.toBytes();
+        MoveLog m2 = MoveLog.fromBytes(bytes);
+        Assertions.assertEquals(200, m2.size());
+        for (int i = 0 ; i < 200 ; i++) {
+            Assertions.assertEquals(m.getSlot(i), m2.getSlot(i));
+            Assertions.assertEquals(m.getCaptured(i), m2.getCaptured(i));
+            Assertions.assertEquals(m.getThinkTime(i), m2.getThinkTime(i));
+        }
+    }
+
+    /**
+     * Check if fromBytes() throws an exception with truncated bytes
+     */
+    @DisplayName("fromBytes() with truncated bytes - should fail")
+    @Test
+    void fromBytes_truncated_should_fail() {
+        m.add(3, 0, Duration.ofSeconds(2));
+        byte[] bytes = m.toBytes();
+
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            MoveLog.fromBytes(java.util.Arrays.copyOf(bytes, bytes.length - 1));
+        });
+    }
+}
@@ -0,0 +1,49 @@
+package Models;
+
+import com.gilleshenrard.Awele.Models.PlayerStats;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class PlayerStatsTest {
+
+    /**
+     * Check if the averages and rates are computed from the totals
+     */
+    @DisplayName("getWinRate() - should not fail")
+    @Test
+    void getWinRate_shouldnot_fail() {
+        PlayerStats s = new PlayerStats("Test1", 3, 1, 100, Duration.ofMinutes(8));
+
+        Assertions.assertEquals(4, s.getGames());
+        Assertions.assertEquals(0.75, s.getWinRate());
+        Assertions.assertEquals(25.0, s.getAverageSeeds());
+        Assertions.assertEquals(Duration.ofMinutes(2), s.getAverageDuration());
+    }
+
+    /**
+     * Check if the averages and rates of a player without any game are null
+     */
+    @DisplayName("getWinRate() without any game - should not fail")
+    @Test
+    void getWinRate_noGame_shouldnot_fail() {
+        PlayerStats s = new PlayerStats("Test1", 0, 0, 0, Duration.ZERO);
+
+        Assertions.assertEquals(0.0, s.getWinRate());
+        Assertions.assertEquals(0.0, s.getAverageSeeds());
+        Assertions.assertEquals(Duration.ZERO, s.getAverageDuration());
+    }
+
+    /**
+     * Check if PlayerStats() throws an exception with a null name
+     */
+    @DisplayName("PlayerStats() with a null name - should fail")
+    @Test
+    void PlayerStats_nullName_should_fail() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new PlayerStats(null, 0, 0, 0, Duration.ZERO);
+        });
+    }
+}
@@ -4,11 +4,13 @@ import com.gilleshenrard.Awele.Models.Player;
 import com.gilleshenrard.Awele.Views.Console.KeyboardSelect;
 import com.gilleshenrard.Awele.Controllers.BoardController;
 import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Views.Selectable;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.security.InvalidParameterException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class PlayerTest {
     Player p = new Player(1, "Testname");
@@ -135,4 +137,25 @@ class PlayerTest {
             p.selectSlot();
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * Check if setBehaviour() closes the behaviour replaced, but not the one set again
+     */
+    @DisplayName("setBehaviour() replacing a behaviour - should not fail")
+    @Test
+    void setBehaviour_close_shouldnot_fail() {
+        AtomicInteger closed = new AtomicInteger(0);
+        Selectable first = new KeyboardSelect(new BoardController(new Board())) {
+            @Override
+            public void close() {
+                closed.incrementAndGet();
+            }
+        };
+
+        p.setBehaviour(first);
+        p.setBehaviour(first);
+        Assertions.assertEquals(0, closed.get());
+        p.setBehaviour(new KeyboardSelect(new BoardController(new Board())));
+        Assertions.assertEquals(1, closed.get());
+    }
+}
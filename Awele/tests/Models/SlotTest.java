@@ -7,6 +7,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.security.InvalidParameterException;
+import java.util.Objects;
 
 class SlotTest {
     Slot s = new Slot(0, 0);
@@ -144,4 +145,20 @@ class SlotTest {
         Slot s1 = new Slot(0, 1);
         Assertions.assertNotEquals(s, s1);
     }
-}
\ No newline at end of file
+
+    /**
+     * Check if hashCode() keeps the values computed with Objects.hash() (for both the slot and its coordinates)
+     */
+    @DisplayName("hashCode() - should not fail")
+    @Test
+    void hashCode_shouldnot_fail() {
+        for (int x = 0 ; x < 6 ; x++) {
+            for (int y = 0 ; y < 2 ; y++) {
+                Slot s1 = new Slot(x, y);
+                s1.setNbSeeds(3 * x + y);
+                Assertions.assertEquals(Objects.hash(x, y), s1.getCoordinates().hashCode());
+                Assertions.assertEquals(Objects.hash(Objects.hash(s1.getCoordinates()), s1.getNbSeeds()), s1.hashCode());
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package Views;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
+import com.gilleshenrard.Awele.Models.Player;
 import com.gilleshenrard.Awele.Views.Console.BoardConsoleView;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,8 @@ class BoardConsoleViewTest {
     @Test
     void displayBoard_shouldnot_fail() {
         GameController gc = new GameController();
+        gc.getGame().setPlayer(new Player(1, "Test1"));
+        gc.getGame().setPlayer(new Player(2, "Test2"));
         gc.getBoardController().attach(bv);
         bv.displayBoard();
     }
@@ -0,0 +1,175 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Views.AI.EndgameDatabase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+class EndgameDatabaseTest {
+    private final static int MAX_SEEDS = 5;
+    private final static int SEARCH_DEPTH = 10;
+    @TempDir
+    static Path m_dir;
+    static EndgameDatabase m_database;
+
+    /**
+     * Generate a small database, then open it again
+     */
+    @BeforeAll
+    static void generate() throws IOException {
+        Path path = m_dir.resolve("endgame.bin");
+        EndgameDatabase.generate(path, MAX_SEEDS);
+        m_database = EndgameDatabase.open(path);
+    }
+
+    /**
+     * Create a board with the slots values given (player 1 first), the seeds left being split between the stores
+     * @param slots Values of the 12 slots
+     * @param store1 Seeds stored by the player 1
+     * @return Board
+     */
+    private static Board createBoard(int[] slots, int store1) {
+        Board board = new Board();
+        int seeds = 0;
+        for (int i = 0 ; i < Board.NB_SLOTS ; i++) {
+            board.setSlotSeeds(new Point(i % 6, i / 6), slots[i]);
+            seeds += slots[i];
+        }
+        board.setStoredSeeds(1, store1);
+        board.setStoredSeeds(2, 48 - seeds - store1);
+
+        return board;
+    }
+
+    /**
+     * Search all the moves up to a depth, and tell if the player to play can force a win or a loss within it
+     * @param controller Controller of the board searched
+     * @param ID ID of the player to play
+     * @param depth Depth left to search
+     * @return WIN or LOSS if forced within the depth, DRAW otherwise
+     */
+    private static int search(BoardController controller, int ID, int depth) {
+        MoveList moves = new MoveList();
+        if (controller.generateMoves(ID, moves) == 0)
+            return EndgameDatabase.LOSS;
+        if (depth == 0)
+            return EndgameDatabase.DRAW;
+
+        boolean allWin = true;
+        for (int i = 0 ; i < moves.size() ; i++) {
+            controller.makeMove(moves, i);
+            int child = (controller.getStoredSeeds(ID) > 24 ? EndgameDatabase.LOSS : search(controller, 3 - ID, depth - 1));
+            controller.unmakeMove();
+
+            if (child == EndgameDatabase.LOSS)
+                return EndgameDatabase.WIN;
+            if (child != EndgameDatabase.WIN)
+                allWin = false;
+        }
+
+        return (allWin ? EndgameDatabase.LOSS : EndgameDatabase.DRAW);
+    }
+
+    /**
+     * Check if probe() gives the outcome found by an exhaustive search, whenever the search is conclusive
+     */
+    @DisplayName("probe() against an exhaustive search - should not fail")
+    @Test
+    void probe_search_shouldnot_fail() {
+        Random random = new Random(11);
+        int conclusive = 0;
+
+        for (int p = 0 ; p < 300 ; p++) {
+            //spread a random amount of seeds on the board, and store the rest
+            int seeds = 1 + random.nextInt(MAX_SEEDS);
+            int[] slots = new int[Board.NB_SLOTS];
+            for (int s = 0 ; s < seeds ; s++)
+                slots[random.nextInt(Board.NB_SLOTS)]++;
+            Board board = createBoard(slots, 24 - seeds + random.nextInt(seeds + 1));
+            int ID = 1 + random.nextInt(2);
+
+            //a forced outcome must be the one held, and a draw must not be forced
+            int expected = search(new BoardController(new Board(board)), ID, SEARCH_DEPTH);
+            int value = m_database.probe(board, ID);
+            if (expected != EndgameDatabase.DRAW) {
+                Assertions.assertEquals(expected, value);
+                conclusive++;
+            }
+            else
+                Assertions.assertNotEquals(EndgameDatabase.UNKNOWN, value);
+        }
+
+        Assertions.assertTrue(conclusive > 100, "only " + conclusive + " positions conclusive");
+    }
+
+    /**
+     * Check if probe() gives a loss to a player who can not play, whether its slots are empty or it can not feed its opponent
+     */
+    @DisplayName("probe() with a forfeit or a starvation - should not fail")
+    @Test
+    void probe_forfeitStarvation_shouldnot_fail() {
+        //player 1 has no seeds left
+        Board forfeit = createBoard(new int[]{0, 0, 0, 0, 0, 0, 1, 2, 0, 0, 0, 0}, 22);
+        Assertions.assertEquals(EndgameDatabase.LOSS, search(new BoardController(new Board(forfeit)), 1, SEARCH_DEPTH));
+        Assertions.assertEquals(EndgameDatabase.LOSS, m_database.probe(forfeit, 1));
+
+        //player 2 has no seeds left, and player 1 can not reach its slots
+        Board starvation = createBoard(new int[]{2, 1, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0}, 22);
+        Assertions.assertEquals(EndgameDatabase.LOSS, search(new BoardController(new Board(starvation)), 1, SEARCH_DEPTH));
+        Assertions.assertEquals(EndgameDatabase.LOSS, m_database.probe(starvation, 1));
+
+        //the same starvation, with player 2 to play
+        Board mirror = createBoard(new int[]{0, 0, 0, 0, 0, 0, 2, 1, 0, 0, 0, 0}, 23);
+        Assertions.assertEquals(EndgameDatabase.LOSS, search(new BoardController(new Board(mirror)), 2, SEARCH_DEPTH));
+        Assertions.assertEquals(EndgameDatabase.LOSS, m_database.probe(mirror, 2));
+    }
+
+    /**
+     * Check if probe() gives UNKNOWN for the positions with more seeds on the board than the database holds
+     */
+    @DisplayName("probe() with too many seeds - should not fail")
+    @Test
+    void probe_tooManySeeds_shouldnot_fail() {
+        Board board = createBoard(new int[]{1, 1, 1, 0, 0, 0, 1, 1, 1, 0, 0, 0}, 18);
+        Assertions.assertEquals(EndgameDatabase.UNKNOWN, m_database.probe(board, 1));
+        Assertions.assertEquals(EndgameDatabase.UNKNOWN, m_database.probe(board, 2));
+        Assertions.assertEquals(EndgameDatabase.UNKNOWN, m_database.probe(new Board(), 1));
+        Assertions.assertEquals(MAX_SEEDS, m_database.getMaxSeeds());
+    }
+
+    /**
+     * Check if open() throws an exception with a file which is not a database
+     */
+    @DisplayName("open() with an invalid file - should fail")
+    @Test
+    void open_invalid_should_fail() throws IOException {
+        Path path = m_dir.resolve("invalid.bin");
+        Files.write(path, new byte[64]);
+        Assertions.assertThrows(IOException.class, () -> {
+            EndgameDatabase.open(path);
+        });
+    }
+
+    /**
+     * Check if generate() throws an exception with too many seeds
+     */
+    @DisplayName("generate() with too many seeds - should fail")
+    @Test
+    void generate_tooManySeeds_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            EndgameDatabase.generate(m_dir.resolve("big.bin"), EndgameDatabase.MAX_SEEDS + 1);
+        });
+    }
+}
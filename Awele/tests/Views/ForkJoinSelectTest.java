@@ -0,0 +1,86 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Views.AI.ForkJoinSelect;
+import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+class ForkJoinSelectTest {
+    /**
+     * Check if selectSlot() selects the same slot as MinimaxSelect searching the same depth
+     */
+    @DisplayName("selectSlot() against MinimaxSelect - should not fail")
+    @Test
+    void selectSlot_minimax_shouldnot_fail() {
+        Random random = new Random(5);
+        BoardController controller = new BoardController(new Board());
+
+        try (ForkJoinSelect f = new ForkJoinSelect(controller)) {
+            f.setID(1);
+            f.setSplitDepth(2);
+            f.setParallelism(2);
+
+            for (int p = 0 ; p < 40 ; p++) {
+                Board board = new Board();
+                for (int i = 0 ; i < Board.NB_SLOTS ; i++)
+                    board.setSlotSeeds(new Point(i % 6, i / 6), 1 + random.nextInt(6));
+
+                for (int depth = 1 ; depth <= 4 ; depth++) {
+                    MinimaxSelect m = new MinimaxSelect(new BoardController(new Board(board)));
+                    m.setID(1);
+                    m.setTranspositionTable(null);
+                    m.setMaxDepth(depth);
+                    controller.setBoard(new Board(board));
+                    f.setMaxDepth(depth);
+                    Assertions.assertEquals(m.selectSlot(), f.selectSlot());
+                }
+            }
+        }
+    }
+
+    /**
+     * Check if selectSlot() selects a winning move which is not the first one
+     */
+    @DisplayName("selectSlot() with a forced win - should not fail")
+    @Test
+    void selectSlot_forcedWin_shouldnot_fail() {
+        int[] seeds1 = {1, 0, 0, 0, 0, 1};
+        int[] seeds2 = {1, 2, 4, 4, 4, 4};
+        Board board = new Board();
+        for (int x = 0 ; x < 6 ; x++) {
+            board.setSlotSeeds(new Point(x, 0), seeds1[x]);
+            board.setSlotSeeds(new Point(x, 1), seeds2[x]);
+        }
+        board.setStoredSeeds(1, 23);
+        board.setStoredSeeds(2, 4);
+
+        try (ForkJoinSelect f = new ForkJoinSelect(new BoardController(board))) {
+            f.setID(1);
+            f.setSplitDepth(2);
+            for (int depth = 1 ; depth <= 6 ; depth++) {
+                f.setMaxDepth(depth);
+                Assertions.assertEquals(6, f.selectSlot());
+            }
+        }
+    }
+
+    /**
+     * Check if setMaxDepth() throws an exception with a null depth
+     */
+    @DisplayName("setMaxDepth() with a null depth - should fail")
+    @Test
+    void setMaxDepth_zero_should_fail() {
+        try (ForkJoinSelect f = new ForkJoinSelect(new BoardController(new Board()))) {
+            Assertions.assertThrows(InvalidParameterException.class, () -> {
+                f.setMaxDepth(0);
+            });
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package Views;
 
 import com.gilleshenrard.Awele.Controllers.GameController;
-import com.gilleshenrard.Awele.Models.Game;
 import com.gilleshenrard.Awele.Models.Player;
 import com.gilleshenrard.Awele.Views.Console.BoardConsoleView;
 import com.gilleshenrard.Awele.Views.Console.GameConsoleView;
@@ -37,8 +36,8 @@ class GameConsoleViewTest {
     @Test
     void displayGame_shouldnot_fail() {
         gc.getBoardController().attach(new BoardConsoleView());
-        Game.getInstance().setPlayer(new Player(1, "Test1"));
-        Game.getInstance().setPlayer(new Player(2, "Test2"));
+        gc.getGame().setPlayer(new Player(1, "Test1"));
+        gc.getGame().setPlayer(new Player(2, "Test2"));
         gc.displayGame();
     }
 }
\ No newline at end of file
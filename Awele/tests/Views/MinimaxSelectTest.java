@@ -0,0 +1,133 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Models.Zobrist;
+import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
+import com.gilleshenrard.Awele.Views.AI.TranspositionTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.time.Duration;
+
+class MinimaxSelectTest {
+    MinimaxSelect m = new MinimaxSelect(new BoardController(new Board()));
+
+    /**
+     * Check if selectSlot() searches the max depth when no time budget is set
+     */
+    @DisplayName("selectSlot() without time budget - should not fail")
+    @Test
+    void selectSlot_noBudget_shouldnot_fail() {
+        m.setID(1);
+        m.setMaxDepth(5);
+        int slot = m.selectSlot();
+        Assertions.assertTrue(slot >= 1 && slot <= 6);
+        Assertions.assertEquals(5, m.getCompletedDepth());
+    }
+
+    /**
+     * Check if the constructor uses the transposition table given, which can be shared or omitted
+     */
+    @DisplayName("MinimaxSelect() with a transposition table - should not fail")
+    @Test
+    void MinimaxSelect_table_shouldnot_fail() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        Board board = new Board();
+        MinimaxSelect[] ais = {new MinimaxSelect(new BoardController(board), table), new MinimaxSelect(new BoardController(new Board()), table), new MinimaxSelect(new BoardController(new Board()), null)};
+        int[] slots = new int[ais.length];
+        for (int i = 0 ; i < ais.length ; i++) {
+            ais[i].setID(1);
+            ais[i].setMaxDepth(4);
+            slots[i] = ais[i].selectSlot();
+        }
+
+        //the root is not stored, but the positions reached by its moves are
+        board.setSlotSeeds(new Point(0, 0), 0);
+        for (int i = 1 ; i <= 4 ; i++)
+            board.setSlotSeeds(new Point(i, 0), 5);
+        Assertions.assertNotEquals(0L, table.probe(board.getHash() ^ Zobrist.getSideKey(2)));
+        Assertions.assertEquals(slots[0], slots[1]);
+        Assertions.assertEquals(slots[0], slots[2]);
+    }
+
+    /**
+     * Check if selectSlot() stops deepening when the time budget is spent, and keeps the last depth completed
+     */
+    @DisplayName("selectSlot() with a time budget - should not fail")
+    @Test
+    void selectSlot_budget_shouldnot_fail() {
+        m.setID(1);
+        m.setMaxDepth(60);
+        m.setTimeBudget(Duration.ofMillis(50));
+
+        long start = System.nanoTime();
+        int slot = m.selectSlot();
+        long elapsed = Duration.ofNanos(System.nanoTime() - start).toMillis();
+
+        Assertions.assertTrue(slot >= 1 && slot <= 6);
+        Assertions.assertTrue(m.getCompletedDepth() >= 1 && m.getCompletedDepth() < 60);
+        Assertions.assertTrue(elapsed < 2000, "search took " + elapsed + " ms");
+    }
+
+    /**
+     * Check if close() stops the workers, the next selections being searched sequentially
+     */
+    @DisplayName("close() - should not fail")
+    @Test
+    void close_shouldnot_fail() {
+        m.setID(1);
+        m.setMaxDepth(4);
+        m.setThreads(2);
+        int slot = m.selectSlot();
+
+        m.close();
+        Assertions.assertEquals(slot, m.selectSlot());
+        Assertions.assertEquals(1.0, m.getUtilisation());
+    }
+
+    /**
+     * Check if measureSpeedup() times both searches
+     */
+    @DisplayName("measureSpeedup() - should not fail")
+    @Test
+    void measureSpeedup_shouldnot_fail() {
+        Assertions.assertTrue(MinimaxSelect.measureSpeedup(new Board(), 1, 5, 2) > 0.0);
+    }
+
+    /**
+     * Check if measureSpeedup() throws an exception with a null amount of threads
+     */
+    @DisplayName("measureSpeedup() with a null amount of threads - should fail")
+    @Test
+    void measureSpeedup_zeroThreads_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            MinimaxSelect.measureSpeedup(new Board(), 1, 5, 0);
+        });
+    }
+
+    /**
+     * Check if setTimeBudget() throws an exception with a null budget
+     */
+    @DisplayName("setTimeBudget() with a null budget - should fail")
+    @Test
+    void setTimeBudget_zero_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            m.setTimeBudget(Duration.ZERO);
+        });
+    }
+
+    /**
+     * Check if setMaxDepth() throws an exception with a null depth
+     */
+    @DisplayName("setMaxDepth() with a null depth - should fail")
+    @Test
+    void setMaxDepth_zero_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            m.setMaxDepth(0);
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Views.AI.MoveOrdering;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+class MoveOrderingTest {
+    MoveOrdering o = new MoveOrdering(4);
+    MoveList moves = new MoveList();
+    int[] order = new int[6];
+
+    /**
+     * Get the slots of the moves, in the order computed
+     * @return Slots ordered
+     */
+    private int[] orderedSlots() {
+        int[] slots = new int[moves.size()];
+        for (int i = 0 ; i < slots.length ; i++)
+            slots[i] = moves.getSlot(order[i]);
+        return slots;
+    }
+
+    /**
+     * Check if order() searches the slot of the transposition table first
+     */
+    @DisplayName("order() with a table slot - should not fail")
+    @Test
+    void order_tableSlot_shouldnot_fail() {
+        new BoardController(new Board()).generateMoves(1, moves);
+        o.order(moves, 4, 0, order);
+        Assertions.assertArrayEquals(new int[]{4, 0, 1, 2, 3, 5}, orderedSlots());
+    }
+
+    /**
+     * Check if order() searches the captures first, the biggest ones first
+     */
+    @DisplayName("order() with captures - should not fail")
+    @Test
+    void order_captures_shouldnot_fail() {
+        Random random = new Random(3);
+        BoardController controller = new BoardController(new Board());
+        int captures = 0;
+
+        for (int p = 0 ; p < 500 ; p++) {
+            Board board = new Board();
+            for (int i = 0 ; i < Board.NB_SLOTS ; i++)
+                board.setSlotSeeds(new Point(i % 6, i / 6), random.nextInt(4));
+            board.setSlotSeeds(new Point(random.nextInt(6), 0), 1 + random.nextInt(12));
+            controller.setBoard(board);
+
+            if (controller.generateMoves(1, moves) == 0)
+                continue;
+            o.order(moves, -1, 0, order);
+
+            //captured amounts must never increase along the order
+            for (int i = 1 ; i < moves.size() ; i++)
+                Assertions.assertTrue(moves.getCaptured(order[i - 1]) >= moves.getCaptured(order[i]));
+            if (moves.getCaptured(order[0]) > 0)
+                captures++;
+        }
+
+        Assertions.assertTrue(captures > 0);
+    }
+
+    /**
+     * Check if order() searches the killer moves of a ply after a cutoff, the most recent first
+     */
+    @DisplayName("order() with killer moves - should not fail")
+    @Test
+    void order_killers_shouldnot_fail() {
+        new BoardController(new Board()).generateMoves(1, moves);
+
+        o.cutoff(moves, 3, 0, 1);
+        o.order(moves, -1, 0, order);
+        Assertions.assertArrayEquals(new int[]{3, 0, 1, 2, 4, 5}, orderedSlots());
+
+        o.cutoff(moves, 5, 0, 1);
+        o.order(moves, -1, 0, order);
+        Assertions.assertArrayEquals(new int[]{5, 3, 0, 1, 2, 4}, orderedSlots());
+    }
+
+    /**
+     * Check if order() uses the history scores on the plies without killer moves
+     */
+    @DisplayName("order() with history scores - should not fail")
+    @Test
+    void order_history_shouldnot_fail() {
+        new BoardController(new Board()).generateMoves(1, moves);
+
+        o.cutoff(moves, 1, 0, 2);
+        o.cutoff(moves, 4, 2, 3);
+        o.order(moves, -1, 1, order);
+        Assertions.assertArrayEquals(new int[]{4, 1, 0, 2, 3, 5}, orderedSlots());
+
+        //the history of a player does not affect the other one
+        new BoardController(new Board()).generateMoves(2, moves);
+        o.order(moves, -1, 1, order);
+        Assertions.assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5}, orderedSlots());
+    }
+
+    /**
+     * Check if clear() forgets the killer moves and ages the history scores
+     */
+    @DisplayName("clear() - should not fail")
+    @Test
+    void clear_shouldnot_fail() {
+        new BoardController(new Board()).generateMoves(1, moves);
+
+        o.cutoff(moves, 2, 0, 1);
+        o.cutoff(moves, 5, 1, 2);
+        o.clear();
+
+        //the killer of ply 0 is forgotten, and its history score (1) is halved to 0
+        o.order(moves, -1, 0, order);
+        Assertions.assertArrayEquals(new int[]{5, 0, 1, 2, 3, 4}, orderedSlots());
+    }
+}
@@ -0,0 +1,109 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Controllers.MoveList;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
+import com.gilleshenrard.Awele.Views.AI.OpeningBook;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.InvalidParameterException;
+
+class OpeningBookTest {
+    @TempDir
+    Path m_dir;
+
+    /**
+     * Check if a book built, then opened again, holds the slots searched for all the positions of its plies
+     */
+    @DisplayName("build(), open() and probe() - should not fail")
+    @Test
+    void buildOpenProbe_shouldnot_fail() throws IOException {
+        Path path = this.m_dir.resolve("book.bin");
+        OpeningBook built = OpeningBook.build(path, 2, 4);
+        OpeningBook book = OpeningBook.open(path);
+        Assertions.assertEquals(built.size(), book.size());
+        Assertions.assertTrue(book.size() > 1);
+
+        //the starting position holds the slot MinimaxSelect selects at the same depth
+        MinimaxSelect m = new MinimaxSelect(new BoardController(new Board()));
+        m.setID(1);
+        m.setMaxDepth(4);
+        Assertions.assertEquals(m.selectSlot() - 1, book.probe(new Board(), 1));
+        Assertions.assertEquals(built.probe(new Board(), 1), book.probe(new Board(), 1));
+
+        //each position reachable in one ply is in the book, but not the ones two plies away
+        BoardController controller = new BoardController(new Board());
+        MoveList moves = new MoveList();
+        controller.generateMoves(1, moves);
+        for (int i = 0 ; i < moves.size() ; i++) {
+            controller.makeMove(moves, i);
+            int slot = book.probe(controller.getBoard(), 2);
+            Assertions.assertTrue(slot >= 0 && slot < 6);
+
+            MoveList replies = new MoveList();
+            controller.generateMoves(2, replies);
+            controller.makeMove(replies, 0);
+            Assertions.assertEquals(-1, book.probe(controller.getBoard(), 1));
+            controller.unmakeMove();
+            controller.unmakeMove();
+        }
+
+        //the player to play is part of the position
+        Assertions.assertEquals(-1, book.probe(new Board(), 2));
+    }
+
+    /**
+     * Get the amount of MinimaxSelect worker threads still alive
+     * @return Amount of workers alive
+     */
+    private static long workersAlive() {
+        return Thread.getAllStackTraces().keySet().stream().filter(t -> t.getName().startsWith("MinimaxSelect-worker") && t.isAlive()).count();
+    }
+
+    /**
+     * Check if build() stops the workers of its search once done
+     */
+    @DisplayName("build() - should not leak threads")
+    @Test
+    void build_threads_shouldnot_fail() throws IOException, InterruptedException {
+        long before = workersAlive();
+        OpeningBook.build(this.m_dir.resolve("book.bin"), 1, 2);
+
+        //the workers are stopped asynchronously
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (workersAlive() > before && System.nanoTime() < deadline)
+            Thread.sleep(10);
+        Assertions.assertTrue(workersAlive() <= before);
+    }
+
+    /**
+     * Check if open() throws an exception with a file which is not an opening book
+     */
+    @DisplayName("open() with an invalid file - should fail")
+    @Test
+    void open_invalid_should_fail() throws IOException {
+        Path path = this.m_dir.resolve("invalid.bin");
+        Files.write(path, new byte[32]);
+        Assertions.assertThrows(IOException.class, () -> {
+            OpeningBook.open(path);
+        });
+    }
+
+    /**
+     * Check if build() throws an exception with a null amount of plies
+     */
+    @DisplayName("build() with a null amount of plies - should fail")
+    @Test
+    void build_zeroPlies_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            OpeningBook.build(this.m_dir.resolve("book.bin"), 0, 4);
+        });
+    }
+}
@@ -0,0 +1,81 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Point;
+import com.gilleshenrard.Awele.Models.Zobrist;
+import com.gilleshenrard.Awele.Views.AI.MinimaxSelect;
+import com.gilleshenrard.Awele.Views.AI.PVSSelect;
+import com.gilleshenrard.Awele.Views.AI.TranspositionTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+import java.util.Random;
+
+class PVSSelectTest {
+    /**
+     * Check if selectSlot() selects the same slot as MinimaxSelect searching the same depth
+     */
+    @DisplayName("selectSlot() against MinimaxSelect - should not fail")
+    @Test
+    void selectSlot_minimax_shouldnot_fail() {
+        Random random = new Random(7);
+
+        for (int p = 0 ; p < 100 ; p++) {
+            Board board = new Board();
+            for (int i = 0 ; i < Board.NB_SLOTS ; i++)
+                board.setSlotSeeds(new Point(i % 6, i / 6), 1 + random.nextInt(6));
+
+            for (int depth = 1 ; depth <= 5 ; depth++) {
+                MinimaxSelect m = new MinimaxSelect(new BoardController(new Board(board)), null);
+                m.setID(1);
+                m.setMaxDepth(depth);
+
+                PVSSelect v = new PVSSelect(new BoardController(new Board(board)), null);
+                v.setID(1);
+                v.setMaxDepth(depth);
+
+                Assertions.assertEquals(m.selectSlot(), v.selectSlot());
+            }
+        }
+    }
+
+    /**
+     * Check if the constructor uses the transposition table given, which can be shared or omitted
+     */
+    @DisplayName("PVSSelect() with a transposition table - should not fail")
+    @Test
+    void PVSSelect_table_shouldnot_fail() {
+        TranspositionTable table = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+        Board board = new Board();
+        PVSSelect[] ais = {new PVSSelect(new BoardController(board), table), new PVSSelect(new BoardController(new Board()), table), new PVSSelect(new BoardController(new Board()), null)};
+        int[] slots = new int[ais.length];
+        for (int i = 0 ; i < ais.length ; i++) {
+            ais[i].setID(1);
+            ais[i].setMaxDepth(4);
+            slots[i] = ais[i].selectSlot();
+        }
+
+        //the root is not stored, but the positions reached by its moves are
+        board.setSlotSeeds(new Point(0, 0), 0);
+        for (int i = 1 ; i <= 4 ; i++)
+            board.setSlotSeeds(new Point(i, 0), 5);
+        Assertions.assertNotEquals(0L, table.probe(board.getHash() ^ Zobrist.getSideKey(2)));
+        Assertions.assertEquals(slots[0], slots[1]);
+        Assertions.assertEquals(slots[0], slots[2]);
+    }
+
+    /**
+     * Check if setMaxDepth() throws an exception with a null depth
+     */
+    @DisplayName("setMaxDepth() with a null depth - should fail")
+    @Test
+    void setMaxDepth_zero_should_fail() {
+        PVSSelect v = new PVSSelect(new BoardController(new Board()));
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            v.setMaxDepth(0);
+        });
+    }
+}
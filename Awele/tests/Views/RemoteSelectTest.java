@@ -0,0 +1,51 @@
+package Views;
+
+import com.gilleshenrard.Awele.Controllers.BoardController;
+import com.gilleshenrard.Awele.Models.Board;
+import com.gilleshenrard.Awele.Models.Player;
+import com.gilleshenrard.Awele.Views.Remote.RemoteSelect;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+
+class RemoteSelectTest {
+    BoardController b = new BoardController(new Board());
+    RemoteSelect r = new RemoteSelect(b);
+
+    /**
+     * Check if selectSlot() returns the slots submitted, in order
+     */
+    @DisplayName("selectSlot() - should not fail")
+    @Test
+    void selectSlot_shouldnot_fail() {
+        Player p = new Player(1, "test", r);
+        r.submit(4);
+        r.submit(2);
+        Assertions.assertEquals(4, p.selectSlot());
+        Assertions.assertEquals(2, p.selectSlot());
+    }
+
+    /**
+     * Check if selectSlot() returns 0 once the player forfeits
+     */
+    @DisplayName("selectSlot() after a forfeit - should not fail")
+    @Test
+    void selectSlot_forfeit_shouldnot_fail() {
+        Player p = new Player(1, "test", r);
+        r.forfeit();
+        Assertions.assertEquals(0, p.selectSlot());
+    }
+
+    /**
+     * Check if submit() throws an exception with a slot above 6
+     */
+    @DisplayName("submit() with a slot above 6 - should fail")
+    @Test
+    void submit_above6_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            r.submit(7);
+        });
+    }
+}
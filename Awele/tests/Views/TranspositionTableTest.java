@@ -0,0 +1,119 @@
+package Views;
+
+import com.gilleshenrard.Awele.Views.AI.TranspositionTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.InvalidParameterException;
+
+class TranspositionTableTest {
+    TranspositionTable t = new TranspositionTable(1, TranspositionTable.Replacement.DEPTH_PREFERRED);
+
+    /**
+     * Check if the constructor throws an exception with a null memory budget
+     */
+    @DisplayName("TranspositionTable() with a null budget - should fail")
+    @Test
+    void TranspositionTable_zero_should_fail() {
+        Assertions.assertThrows(InvalidParameterException.class, () -> {
+            new TranspositionTable(0, TranspositionTable.Replacement.ALWAYS);
+        });
+    }
+
+    /**
+     * Check if the constructor throws an exception with a NULL replacement policy
+     */
+    @DisplayName("TranspositionTable() with a NULL replacement policy - should fail")
+    @Test
+    void TranspositionTable_nullReplacement_should_fail() {
+        Assertions.assertThrows(NullPointerException.class, () -> {
+            new TranspositionTable(1, null);
+        });
+    }
+
+    /**
+     * Check if the capacity is the biggest power of 2 fitting in the budget (16 bytes per entry)
+     */
+    @DisplayName("capacity() - should not fail")
+    @Test
+    void capacity_shouldnot_fail() {
+        Assertions.assertEquals(1 << 16, t.capacity());
+    }
+
+    /**
+     * Check if probe() returns the values stored, packed and unpacked without loss
+     */
+    @DisplayName("store() and probe() - should not fail")
+    @Test
+    void storeProbe_shouldnot_fail() {
+        long[] keys = {0x123456789ABCDEF0L, -42L, 7L};
+        int[] scores = {Integer.MIN_VALUE + 1, -1234, Integer.MAX_VALUE};
+        int[] bounds = {TranspositionTable.EXACT, TranspositionTable.LOWER, TranspositionTable.UPPER};
+        int[] slots = {0, 5, TranspositionTable.NO_SLOT};
+
+        for (int i = 0 ; i < keys.length ; i++) {
+            t.store(keys[i], 200 + i, scores[i], bounds[i], slots[i]);
+            long entry = t.probe(keys[i]);
+            Assertions.assertNotEquals(0L, entry);
+            Assertions.assertEquals(scores[i], TranspositionTable.getScore(entry));
+            Assertions.assertEquals(200 + i, TranspositionTable.getDepth(entry));
+            Assertions.assertEquals(bounds[i], TranspositionTable.getBound(entry));
+            Assertions.assertEquals(slots[i], TranspositionTable.getSlot(entry));
+        }
+    }
+
+    /**
+     * Check if probe() misses the positions never stored, and the ones sharing the bucket of another
+     */
+    @DisplayName("probe() with an unknown position - should not fail")
+    @Test
+    void probe_unknown_shouldnot_fail() {
+        Assertions.assertEquals(0L, t.probe(5L));
+        t.store(5L, 3, 10, TranspositionTable.EXACT, 1);
+        Assertions.assertEquals(0L, t.probe(5L + t.capacity()));
+        t.clear();
+        Assertions.assertEquals(0L, t.probe(5L));
+    }
+
+    /**
+     * Check if the depth-preferred policy keeps the deepest entry of the current search only
+     */
+    @DisplayName("store() with the depth-preferred policy - should not fail")
+    @Test
+    void store_depthPreferred_shouldnot_fail() {
+        long other = 5L + t.capacity();
+
+        //a shallower position does not replace a deeper one
+        t.store(5L, 8, 10, TranspositionTable.EXACT, 1);
+        t.store(other, 2, 20, TranspositionTable.EXACT, 2);
+        Assertions.assertEquals(8, TranspositionTable.getDepth(t.probe(5L)));
+        Assertions.assertEquals(0L, t.probe(other));
+
+        //the same position is always updated
+        t.store(5L, 4, 30, TranspositionTable.LOWER, 3);
+        Assertions.assertEquals(30, TranspositionTable.getScore(t.probe(5L)));
+
+        //entries of a previous search are always replaced
+        t.store(5L, 8, 10, TranspositionTable.EXACT, 1);
+        t.newSearch();
+        t.store(other, 2, 20, TranspositionTable.EXACT, 2);
+        Assertions.assertEquals(0L, t.probe(5L));
+        Assertions.assertEquals(20, TranspositionTable.getScore(t.probe(other)));
+    }
+
+    /**
+     * Check if the always-replace policy keeps the most recent entry
+     */
+    @DisplayName("store() with the always-replace policy - should not fail")
+    @Test
+    void store_always_shouldnot_fail() {
+        TranspositionTable always = new TranspositionTable(1, TranspositionTable.Replacement.ALWAYS);
+        long other = 5L + always.capacity();
+
+        always.store(5L, 8, 10, TranspositionTable.EXACT, 1);
+        always.store(other, 2, 20, TranspositionTable.EXACT, 2);
+        Assertions.assertEquals(0L, always.probe(5L));
+        Assertions.assertEquals(2, TranspositionTable.getDepth(always.probe(other)));
+    }
+}